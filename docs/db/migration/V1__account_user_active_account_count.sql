@@ -0,0 +1,9 @@
+-- 운영 DB 수동 적용용 (로컬은 ddl-auto 로 생성, 마이그레이션 도구 없이 파일 이름 순서대로 실행)
+-- AccountUser.activeAccountCount : 사용 중(IN_USE) 계좌 수, 계좌 생성/해지 시 조건부 update 로 유지
+alter table account_user add column active_account_count integer default 0 not null;
+
+update account_user u
+set active_account_count = (select count(*)
+                            from account a
+                            where a.account_user_id = u.id
+                              and a.account_status = 'IN_USE');
@@ -0,0 +1,16 @@
+-- 운영 DB 수동 적용용 (로컬은 ddl-auto 로 생성, 마이그레이션 도구 없이 파일 이름 순서대로 실행)
+-- Account.accountNumber : varchar(10자리 숫자) -> bigint (AccountNumberConverter)
+-- Transaction.transactionId : varchar(32자리 16진수) -> binary(16) (TransactionIdConverter)
+-- 기존 값은 모두 서비스에서 발급한 형식이므로 그대로 변환된다. (형식이 다르면 변환 실패로 중단)
+alter table account add column account_number_compact bigint;
+update account set account_number_compact = cast(account_number as bigint);
+alter table account drop column account_number;
+alter table account alter column account_number_compact rename to account_number;
+create unique index ux_account_account_number on account (account_number);
+
+-- 대시 없는 UUID 문자열 -> uuid -> 16바이트
+alter table transaction add column transaction_id_compact binary(16);
+update transaction set transaction_id_compact = cast(cast(transaction_id as uuid) as binary(16));
+alter table transaction drop column transaction_id;
+alter table transaction alter column transaction_id_compact rename to transaction_id;
+create unique index ux_transaction_transaction_id on transaction (transaction_id);
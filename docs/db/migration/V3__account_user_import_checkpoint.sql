@@ -0,0 +1,13 @@
+-- 운영 DB 수동 적용용 (로컬은 ddl-auto 로 생성, 마이그레이션 도구 없이 파일 이름 순서대로 실행)
+-- AccountUserImportCheckpoint : 사용자 가져오기 CLI 의 이어서 시작할 위치 (chunk 저장과 같은 트랜잭션에서 갱신)
+create sequence account_user_import_checkpoint_seq start with 1 increment by 50;
+
+create table account_user_import_checkpoint
+(
+    id             bigint        not null primary key,
+    import_key     varchar(1024) not null,
+    committed_line bigint        not null,
+    created_at     timestamp,
+    updated_at     timestamp
+);
+create unique index ux_account_user_import_checkpoint_import_key on account_user_import_checkpoint (import_key);
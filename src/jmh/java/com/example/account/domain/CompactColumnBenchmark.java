@@ -0,0 +1,155 @@
+package com.example.account.domain;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.domain.converter.TransactionIdConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌번호 / 거래 아이디 컬럼 형식별 저장 크기, 조회 벤치마크 (파일 H2)
+ * - string  : varchar(10) 계좌번호, varchar(32) 거래 아이디
+ * - compact : bigint 계좌번호, binary(16) 거래 아이디 (AccountNumberConverter, TransactionIdConverter)
+ * 적재 후 테이블별 디스크 사용량 (행 + unique 인덱스) 을 [footprint] 로 출력한다.
+ * 조회는 서비스와 같이 문자열을 받아 컬럼 형식으로 바꾼 뒤 unique 인덱스로 찾는다.
+ * ./gradlew jmh -PjmhInclude=CompactColumnBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class CompactColumnBenchmark {
+    private static final int LOOKUP_KEYS = 4096;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"string", "compact"})
+    private String format;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement findAccount;
+    private PreparedStatement findTransaction;
+    private String[] accountNumbers;
+    private String[] transactionIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("compact-column");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";CACHE_SIZE=65536");
+        boolean compact = "compact".equals(format);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table account (id bigint primary key, account_number "
+                    + (compact ? "bigint" : "varchar(10)") + ")");
+            statement.execute("create table transaction (id bigint primary key, transaction_id "
+                    + (compact ? "binary(16)" : "varchar(32)") + ")");
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        accountNumbers = new String[LOOKUP_KEYS];
+        transactionIds = new String[LOOKUP_KEYS];
+        connection.setAutoCommit(false);
+        try (PreparedStatement insertAccount = connection.prepareStatement(
+                "insert into account (id, account_number) values (?, ?)");
+             PreparedStatement insertTransaction = connection.prepareStatement(
+                     "insert into transaction (id, transaction_id) values (?, ?)")) {
+            for (int i = 0; i < size; i++) {
+                String accountNumber = accountNumber(i);
+                String transactionId = new UUID(random.nextLong(), random.nextLong()).toString().replace("-", "");
+                // 조회 키는 적재한 값 중에서 고르게 뽑는다.
+                if (i % (size / LOOKUP_KEYS) == 0 && i / (size / LOOKUP_KEYS) < LOOKUP_KEYS) {
+                    accountNumbers[i / (size / LOOKUP_KEYS)] = accountNumber;
+                    transactionIds[i / (size / LOOKUP_KEYS)] = transactionId;
+                }
+                insertAccount.setLong(1, i + 1L);
+                insertTransaction.setLong(1, i + 1L);
+                if (compact) {
+                    insertAccount.setLong(2, AccountNumberConverter.toColumn(accountNumber));
+                    insertTransaction.setBytes(2, TransactionIdConverter.toColumn(transactionId));
+                } else {
+                    insertAccount.setString(2, accountNumber);
+                    insertTransaction.setString(2, transactionId);
+                }
+                insertAccount.addBatch();
+                insertTransaction.addBatch();
+                if ((i + 1) % INSERT_BATCH == 0) {
+                    insertAccount.executeBatch();
+                    insertTransaction.executeBatch();
+                    connection.commit();
+                }
+            }
+            insertAccount.executeBatch();
+            insertTransaction.executeBatch();
+            connection.commit();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create unique index ux_account_account_number on account (account_number)");
+            statement.execute("create unique index ux_transaction_transaction_id on transaction (transaction_id)");
+            System.out.printf("[footprint] format=%s, size=%d, account=%d bytes, transaction=%d bytes%n",
+                    format, size, diskSpaceUsed(statement, "ACCOUNT"), diskSpaceUsed(statement, "TRANSACTION"));
+        }
+        connection.setAutoCommit(true);
+
+        findAccount = connection.prepareStatement("select id from account where account_number = ?");
+        findTransaction = connection.prepareStatement("select id from transaction where transaction_id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects delete files");
+        }
+        connection.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long findByAccountNumber() throws SQLException {
+        String accountNumber = accountNumbers[next++ & (LOOKUP_KEYS - 1)];
+        if ("compact".equals(format)) {
+            findAccount.setLong(1, AccountNumberConverter.toColumn(accountNumber));
+        } else {
+            findAccount.setString(1, accountNumber);
+        }
+        return singleId(findAccount);
+    }
+
+    @Benchmark
+    public long findByTransactionId() throws SQLException {
+        String transactionId = transactionIds[next++ & (LOOKUP_KEYS - 1)];
+        if ("compact".equals(format)) {
+            findTransaction.setBytes(1, TransactionIdConverter.toColumn(transactionId));
+        } else {
+            findTransaction.setString(1, transactionId);
+        }
+        return singleId(findTransaction);
+    }
+
+    private static long singleId(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
+        }
+    }
+
+    private static long diskSpaceUsed(Statement statement, String table) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("call disk_space_used('" + table + "')")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // 계좌번호 10자리 (번호 공간에 고르게 퍼지도록 소수 배수, AccountIndexBenchmark 와 같은 분포)
+    private static String accountNumber(int i) {
+        return Long.toString(1_000_000_000L + (i * 179_424_673L) % 9_000_000_000L);
+    }
+}
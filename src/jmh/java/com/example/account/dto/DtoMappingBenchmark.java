@@ -0,0 +1,62 @@
+package com.example.account.dto;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.dto.transaction.UseBalance;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO -> 응답 변환 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    private Transaction transaction;
+    private TransactionDto transactionDto;
+
+    @Setup
+    public void setUp() {
+        AccountUser user = AccountUser.builder().name("Pororo").build();
+        user.setId(1L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10_000L)
+                .build();
+        transaction = Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .account(account)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId("c2033bb6d82a4250aecf8e27c49b63f6")
+                .transactedAt(LocalDateTime.now())
+                .build();
+        transactionDto = TransactionDto.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public TransactionDto transactionDtoFromEntity() {
+        return TransactionDto.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public UseBalance.Response useBalanceResponseFrom() {
+        return UseBalance.Response.from(transactionDto);
+    }
+
+    @Benchmark
+    public UseBalance.Response entityToResponse() {
+        return UseBalance.Response.from(TransactionDto.fromEntity(transaction));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.account.dto;
+
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.dto.error.ErrorResponse;
+import com.example.account.dto.transaction.QueryTransactionResponse;
+import com.example.account.dto.transaction.UseBalance;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 의 Jackson 직렬화 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private UseBalance.Response useBalanceResponse;
+    private QueryTransactionResponse queryTransactionResponse;
+    private List<AccountInfo> accountInfos;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        useBalanceResponse = UseBalance.Response.builder()
+                .accountNumber("1000000000")
+                .transactionResult(TransactionResultType.S)
+                .transactionId("c2033bb6d82a4250aecf8e27c49b63f6")
+                .amount(1000L)
+                .transactedAt(LocalDateTime.now())
+                .build();
+        queryTransactionResponse = QueryTransactionResponse.builder()
+                .accountNumber("1000000000")
+                .transactionType(TransactionType.USE)
+                .transactionResult(TransactionResultType.S)
+                .transactionId("c2033bb6d82a4250aecf8e27c49b63f6")
+                .amount(1000L)
+                .transactedAt(LocalDateTime.now())
+                .build();
+        accountInfos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            accountInfos.add(AccountInfo.builder()
+                    .accountNumber(String.valueOf(1000000000L + i))
+                    .balance(10_000L * i)
+                    .build());
+        }
+        errorResponse = new ErrorResponse(ErrorCode.AMOUNT_EXCEED_BALANCE,
+                ErrorCode.AMOUNT_EXCEED_BALANCE.getDescription());
+    }
+
+    @Benchmark
+    public byte[] useBalanceResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(useBalanceResponse);
+    }
+
+    @Benchmark
+    public byte[] queryTransactionResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(queryTransactionResponse);
+    }
+
+    @Benchmark
+    public byte[] accountInfoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accountInfos);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
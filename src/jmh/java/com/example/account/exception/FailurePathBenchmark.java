@@ -0,0 +1,106 @@
+package com.example.account.exception;
+
+import com.example.account.dto.error.ErrorResponse;
+import com.example.account.exception.account.AccountException;
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실패 경로(예외 생성 + 오류 응답 직렬화) 처리량 벤치마크
+ * depth 는 예외가 던져지는 지점의 호출 깊이 (스택 트레이스 수집 비용에 비례)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FailurePathBenchmark {
+    private static final ErrorCode ERROR_CODE = ErrorCode.AMOUNT_EXCEED_BALANCE;
+
+    @Param({"16", "128"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+    private byte[] serializedBody;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        serializedBody = objectMapper.writeValueAsBytes(
+                new ErrorResponse(ERROR_CODE, ERROR_CODE.getDescription()));
+    }
+
+    // 기존 방식 : 스택 트레이스를 수집하는 예외 + 매번 직렬화
+    @Benchmark
+    public void stackTraceAndSerialize(Blackhole blackhole) throws JsonProcessingException {
+        try {
+            throwAt(depth, true);
+        } catch (StackTraceException e) {
+            blackhole.consume(objectMapper.writeValueAsBytes(
+                    new ErrorResponse(e.getErrorCode(), e.getErrorMessage())));
+        }
+    }
+
+    // 스택 트레이스 없는 예외 (매번 생성) + 매번 직렬화
+    @Benchmark
+    public void stacklessAndSerialize(Blackhole blackhole) throws JsonProcessingException {
+        try {
+            throwAt(depth, false);
+        } catch (AccountException e) {
+            blackhole.consume(objectMapper.writeValueAsBytes(
+                    new ErrorResponse(e.getErrorCode(), e.getErrorMessage())));
+        }
+    }
+
+    // 캐시된 예외 + 미리 직렬화한 본문
+    @Benchmark
+    public void cachedAndPreSerialized(Blackhole blackhole) {
+        try {
+            throwCachedAt(depth);
+        } catch (AccountException e) {
+            blackhole.consume(e.getErrorCode());
+            blackhole.consume(serializedBody);
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackTrace);
+            return;
+        }
+        if (stackTrace) {
+            throw new StackTraceException(ERROR_CODE);
+        }
+        throw new AccountException(ERROR_CODE);
+    }
+
+    private static void throwCachedAt(int depth) {
+        if (depth > 0) {
+            throwCachedAt(depth - 1);
+            return;
+        }
+        throw AccountException.of(ERROR_CODE);
+    }
+
+    // 기존 방식의 예외 (AccountException 은 항상 스택 트레이스를 수집하지 않으므로 비교용으로 따로 둔다)
+    private static class StackTraceException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        StackTraceException(ErrorCode errorCode) {
+            super(errorCode.getDescription());
+            this.errorCode = errorCode;
+        }
+
+        ErrorCode getErrorCode() {
+            return errorCode;
+        }
+
+        String getErrorMessage() {
+            return getMessage();
+        }
+    }
+}
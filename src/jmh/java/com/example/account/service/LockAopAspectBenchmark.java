@@ -0,0 +1,122 @@
+package com.example.account.service;
+
+import com.example.account.dto.transaction.UseBalance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.SourceLocation;
+import org.aspectj.runtime.internal.AroundClosure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락을 잡지 않는 LockService 로 LockAopAspect 자체의 오버헤드를 측정한다. (락 보유 시간 메트릭 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockAopAspectBenchmark {
+    private static final Object RESULT = new Object();
+
+    private LockAopAspect lockAopAspect;
+    private ProceedingJoinPoint joinPoint;
+    private UseBalance.Request request;
+
+    @Setup
+    public void setUp() {
+        lockAopAspect = new LockAopAspect(new NoOpLockService(),
+                new LockMetrics(new SimpleMeterRegistry()));
+        joinPoint = new StubJoinPoint();
+        request = UseBalance.Request.builder()
+                .userId(1L)
+                .accountNumber("1000000000")
+                .amount(1000L)
+                .build();
+    }
+
+    @Benchmark
+    public Object baseline() throws Throwable {
+        return joinPoint.proceed();
+    }
+
+    @Benchmark
+    public Object aroundMethod() throws Throwable {
+        return lockAopAspect.aroundMethod(joinPoint, request);
+    }
+
+    private static class NoOpLockService extends LockService {
+        NoOpLockService() {
+            super(null, null);
+        }
+
+        @Override
+        public void lock(String accountNumber) {
+        }
+
+        @Override
+        public void unlock(String accountNumber) {
+        }
+    }
+
+    private static class StubJoinPoint implements ProceedingJoinPoint {
+        @Override
+        public void set$AroundClosure(AroundClosure arc) {
+        }
+
+        @Override
+        public Object proceed() {
+            return RESULT;
+        }
+
+        @Override
+        public Object proceed(Object[] args) {
+            return RESULT;
+        }
+
+        @Override
+        public String toShortString() {
+            return "stub";
+        }
+
+        @Override
+        public String toLongString() {
+            return "stub";
+        }
+
+        @Override
+        public Object getThis() {
+            return null;
+        }
+
+        @Override
+        public Object getTarget() {
+            return null;
+        }
+
+        @Override
+        public Object[] getArgs() {
+            return new Object[0];
+        }
+
+        @Override
+        public Signature getSignature() {
+            return null;
+        }
+
+        @Override
+        public SourceLocation getSourceLocation() {
+            return null;
+        }
+
+        @Override
+        public String getKind() {
+            return ProceedingJoinPoint.METHOD_EXECUTION;
+        }
+
+        @Override
+        public StaticPart getStaticPart() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.account.service.account;
+
+import com.example.account.type.account.AccountStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 인덱스 메모리 사용량 / 조회 벤치마크
+ * - primitive : AccountIndex (long 키 -> long 값 오픈 어드레싱)
+ * - boxed     : HashMap<String, Entry> (계좌번호 문자열 + 객체)
+ * 적재 직후 GC 이후 힙 사용량 차이를 [footprint] 로 출력한다. (계좌 하나당 바이트)
+ * 50M 는 힙이 크게 필요하므로 fork JVM 을 -Xmx12g 로 띄운다.
+ * ./gradlew jmh -PjmhInclude=AccountIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AccountIndexBenchmark {
+    private static final int LOOKUP_KEYS = 4096;
+
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    @Param({"primitive", "boxed"})
+    private String impl;
+
+    private AccountIndex accountIndex;
+    private Map<String, Entry> boxedIndex;
+    private String[] lookupKeys;
+    private int next;
+
+    private record Entry(long accountId, long userId, AccountStatus status) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        if ("primitive".equals(impl)) {
+            accountIndex = new AccountIndex(new DriverManagerDataSource(), true, size, 1000);
+            for (int i = 0; i < size; i++) {
+                accountIndex.put(accountNumber(i), i + 1L, i / 10 + 1L, AccountStatus.IN_USE);
+            }
+        } else {
+            boxedIndex = new HashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                boxedIndex.put(accountNumber(i), new Entry(i + 1L, i / 10 + 1L, AccountStatus.IN_USE));
+            }
+        }
+        long footprint = usedHeap() - before;
+        System.out.printf("[footprint] impl=%s, size=%d, bytes=%d, bytes/account=%.1f%n",
+                impl, size, footprint, (double) footprint / size);
+
+        SplittableRandom random = new SplittableRandom(42);
+        lookupKeys = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            lookupKeys[i] = accountNumber(random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public long findOwner() {
+        String accountNumber = lookupKeys[next++ & (LOOKUP_KEYS - 1)];
+        if (accountIndex != null) {
+            return AccountIndex.userId(accountIndex.find(accountNumber));
+        }
+        return boxedIndex.get(accountNumber).userId();
+    }
+
+    // 계좌번호 10자리 (번호 공간에 고르게 퍼지도록 소수 배수)
+    private static String accountNumber(int i) {
+        return Long.toString(1_000_000_000L + (i * 179_424_673L) % 9_000_000_000L);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.account.Account;
+import com.example.account.exception.account.AccountException;
+import com.example.account.repository.account.AccountRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 번호 생성 / 중복 체크 벤치마크
+ * 저장소는 findByAccountNumber 만 응답하는 스텁을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountServiceBenchmark {
+    private static final String TAKEN_ACCOUNT_NUMBER = "1000000000";
+
+    private AccountService accountService;
+
+    @Setup
+    public void setUp() {
+        accountService = new AccountService(stubAccountRepository(), null, null, null);
+    }
+
+    @Benchmark
+    public String createAccountNumber() {
+        return AccountService.createAccountNumber(1L);
+    }
+
+    @Benchmark
+    public String checkAccountNumber_free() {
+        return accountService.checkAccountNumber("2000000000");
+    }
+
+    // 중복된 번호는 1000번 재조회 이후 예외가 발생한다.
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object checkAccountNumber_taken() {
+        try {
+            return accountService.checkAccountNumber(TAKEN_ACCOUNT_NUMBER);
+        } catch (AccountException e) {
+            return e;
+        }
+    }
+
+    private static AccountRepository stubAccountRepository() {
+        Account taken = Account.builder().accountNumber(TAKEN_ACCOUNT_NUMBER).build();
+        return (AccountRepository) Proxy.newProxyInstance(
+                AccountRepository.class.getClassLoader(),
+                new Class[]{AccountRepository.class},
+                (proxy, method, args) -> {
+                    if ("findByAccountNumber".equals(method.getName())) {
+                        return TAKEN_ACCOUNT_NUMBER.equals(args[0]) ? Optional.of(taken) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.dto.account.AccountDto;
+import com.example.account.event.BalanceChangedEvent;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 캐시 GC 비교 벤치마크
+ * - offheap : OffHeapBalanceCache (direct ByteBuffer 슬롯 + long 배열 인덱스)
+ * - onheap  : ConcurrentHashMap<String, AccountDto> (계좌번호 문자열 + DTO, 변경마다 새 DTO)
+ * 잔액 변경 이벤트를 반영하면서 조회하는 동안의 GC 횟수/누적 시간을 iteration 마다 [gc] 로 출력한다.
+ * (같은 힙에서 캐시가 GC 대상 객체를 얼마나 늘리는지 비교, 평균 처리 시간은 JMH 결과로 확인)
+ * ./gradlew jmh -PjmhInclude=BalanceCacheGcBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g", "-XX:MaxDirectMemorySize=2g", "-XX:+UseG1GC"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BalanceCacheGcBenchmark {
+    private static final int LOOKUP_KEYS = 4096;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"offheap", "onheap"})
+    private String impl;
+
+    private OffHeapBalanceCache offHeapCache;
+    private ConcurrentHashMap<String, AccountDto> onHeapCache;
+    private String[] accountNumbers;
+    private SplittableRandom random;
+    private long gcCountBefore;
+    private long gcMillisBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("offheap".equals(impl)) {
+            offHeapCache = new OffHeapBalanceCache(new DriverManagerDataSource(), true, false, 1 << 20, size, 1000);
+            for (int i = 0; i < size; i++) {
+                offHeapCache.addIfAbsent(accountNumber(i), i / 10 + 1L, AccountStatus.IN_USE, 10_000L);
+            }
+        } else {
+            onHeapCache = new ConcurrentHashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                String accountNumber = AccountNumberConverter.toAccountNumber(accountNumber(i));
+                onHeapCache.put(accountNumber, AccountDto.builder()
+                        .userId(i / 10 + 1L)
+                        .accountNumber(accountNumber)
+                        .balance(10_000L)
+                        .build());
+            }
+        }
+        random = new SplittableRandom(42);
+        accountNumbers = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            accountNumbers[i] = AccountNumberConverter.toAccountNumber(accountNumber(random.nextInt(size)));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void markGc() {
+        gcCountBefore = gcCount();
+        gcMillisBefore = gcMillis();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printGc() {
+        System.out.printf("[gc] impl=%s, size=%d, collections=%d, pause-ms=%d%n",
+                impl, size, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    // 잔액 변경 반영 후 조회 (계좌 하나)
+    @Benchmark
+    public long updateAndRead() {
+        String accountNumber = accountNumbers[random.nextInt(LOOKUP_KEYS)];
+        long balance = random.nextLong(1_000_000L);
+        if (offHeapCache != null) {
+            offHeapCache.onBalanceChanged(new BalanceChangedEvent(accountNumber, TransactionType.USE,
+                    null, 100L, balance, LocalDateTime.now()));
+            return offHeapCache.read(offHeapCache.find(accountNumber)).balance();
+        }
+        AccountDto previous = onHeapCache.get(accountNumber);
+        onHeapCache.put(accountNumber, AccountDto.builder()
+                .userId(previous.getUserId())
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .build());
+        return onHeapCache.get(accountNumber).getBalance();
+    }
+
+    // 계좌번호 10자리 (번호 공간에 고르게 퍼지도록 소수 배수, AccountIndexBenchmark 와 같은 분포)
+    private static long accountNumber(int i) {
+        return 1_000_000_000L + (i * 179_424_673L) % 9_000_000_000L;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
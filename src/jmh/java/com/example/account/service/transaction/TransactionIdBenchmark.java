@@ -0,0 +1,25 @@
+package com.example.account.service.transaction;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * saveAndGetTransaction 의 거래 아이디 생성 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionIdBenchmark {
+
+    @Benchmark
+    public String createTransactionId() {
+        return TransactionService.createTransactionId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createTransactionId_contended() {
+        return TransactionService.createTransactionId();
+    }
+}
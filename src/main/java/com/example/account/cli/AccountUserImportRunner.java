@@ -0,0 +1,92 @@
+package com.example.account.cli;
+
+import com.example.account.dto.account.ImportAccountUser;
+import com.example.account.service.account.AccountUserImportService;
+import com.example.account.type.account.ImportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 사용자 대량 가져오기 CLI
+ * java -jar account.jar --spring.main.web-application-type=none \
+ *   --account-user.import.file=users.csv \
+ *   --spring.jpa.properties.hibernate.show_sql=false
+ * chunk 를 저장하는 트랜잭션에서 committedLine 을 파일 경로별로 DB (AccountUserImportCheckpoint) 에 함께 기록하고,
+ * 다시 실행하면 그 줄 다음부터 이어서 가져온다. (chunk 커밋 직후 중단되어도 같은 줄을 두 번 가져오지 않는다)
+ * (account-user.import.start-line 을 주면 그 값을 우선 사용, 다 끝나면 기록은 지운다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account-user.import.file")
+public class AccountUserImportRunner implements ApplicationRunner {
+    private final AccountUserImportService accountUserImportService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Path file;
+    private final String checkpointKey;
+    private final Long startLine;
+    private final boolean exitOnFinish;
+
+    public AccountUserImportRunner(AccountUserImportService accountUserImportService,
+                                   ConfigurableApplicationContext applicationContext,
+                                   @Value("${account-user.import.file}") String file,
+                                   @Value("${account-user.import.start-line:#{null}}") Long startLine,
+                                   @Value("${account-user.import.exit:true}") boolean exitOnFinish) {
+        this.accountUserImportService = accountUserImportService;
+        this.applicationContext = applicationContext;
+        this.file = Path.of(file);
+        this.checkpointKey = this.file.toAbsolutePath().normalize().toString();
+        this.startLine = startLine;
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long from = startLine != null ? startLine : accountUserImportService.findCommittedLine(checkpointKey);
+        ImportFormat format = file.getFileName().toString().endsWith(".ndjson") ? ImportFormat.NDJSON : ImportFormat.CSV;
+        log.info("Importing account users from {} ({}), start line {}", file, format, from);
+
+        long startedAt = System.nanoTime();
+        ImportAccountUser.Progress result;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            result = accountUserImportService.importUsers(inputStream, format, from, checkpointKey, this::onProgress);
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (result.isDone()) {
+            accountUserImportService.deleteCheckpoint(checkpointKey);
+            log.info("Imported {} account users ({} rejected) in {} ms", result.getImported(), result.getRejected(),
+                    elapsedMillis);
+        } else {
+            log.error("Import stopped at line {} : {} (run again to resume)", result.getCommittedLine(),
+                    result.getError());
+        }
+        if (exitOnFinish) {
+            int exitCode = result.isDone() ? 0 : 1;
+            System.exit(SpringApplication.exit(applicationContext, (ExitCodeGenerator) () -> exitCode));
+        }
+    }
+
+    private void onProgress(ImportAccountUser.Progress progress) {
+        if (progress.getError() != null) {
+            return;
+        }
+        if (progress.getRejections() != null) {
+            progress.getRejections().forEach(rejection ->
+                    log.warn("Rejected line {} : {}", rejection.getLine(), rejection.getReason()));
+        }
+        log.info("Committed line {} (imported {}, rejected {})", progress.getCommittedLine(),
+                progress.getImported(), progress.getRejected());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.account.cli;
+
+import com.example.account.dto.dataset.GenerateDataset;
+import com.example.account.service.dataset.DatasetGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 성능 테스트용 데이터 생성 (dataset 프로필)
+ * 서버 기동 전에 생성 : ./gradlew bootRun --args='--spring.profiles.active=dataset --dataset.users=1000000'
+ * CLI (생성 후 종료, 파일 DB) :
+ * java -jar account.jar --spring.profiles.active=dataset --dataset.exit=true \
+ *   --spring.main.web-application-type=none \
+ *   --spring.datasource.url=jdbc:h2:file:./build/dataset --spring.jpa.hibernate.ddl-auto=update
+ * ApplicationReadyEvent 이전에 실행되므로 계좌 인덱스/잔액 캐시는 생성된 데이터로 적재된다.
+ * 파일 DB 에 다시 실행하면 기존 데이터 뒤에 새 id 로 추가된다. (같은 데이터를 다시 만들려면 DB 파일을 지우고 실행)
+ */
+@Slf4j
+@Component
+@Profile("dataset")
+public class DatasetGeneratorRunner implements ApplicationRunner {
+    private final DatasetGenerator datasetGenerator;
+    private final ConfigurableApplicationContext applicationContext;
+    private final GenerateDataset.Spec spec;
+    private final boolean exitOnFinish;
+
+    public DatasetGeneratorRunner(DatasetGenerator datasetGenerator,
+                                  ConfigurableApplicationContext applicationContext,
+                                  @Value("${dataset.seed:42}") long seed,
+                                  @Value("${dataset.users:10000}") int users,
+                                  @Value("${dataset.max-accounts-per-user:10}") int maxAccountsPerUser,
+                                  @Value("${dataset.transactions:500000}") long transactions,
+                                  @Value("${dataset.zipf-skew:1.1}") double zipfSkew,
+                                  @Value("${dataset.failure-ratio:0.05}") double failureRatio,
+                                  @Value("${dataset.cancel-ratio:0.02}") double cancelRatio,
+                                  @Value("${dataset.unregistered-ratio:0.05}") double unregisteredRatio,
+                                  @Value("${dataset.max-amount:100000}") long maxAmount,
+                                  @Value("${dataset.days:730}") int days,
+                                  @Value("${dataset.end-at:#{null}}") String endAt,
+                                  @Value("${dataset.batch-size:1000}") int batchSize,
+                                  @Value("${dataset.exit:false}") boolean exitOnFinish) {
+        this.datasetGenerator = datasetGenerator;
+        this.applicationContext = applicationContext;
+        this.spec = GenerateDataset.Spec.builder()
+                .seed(seed)
+                .users(users)
+                .maxAccountsPerUser(maxAccountsPerUser)
+                .transactions(transactions)
+                .zipfSkew(zipfSkew)
+                .failureRatio(failureRatio)
+                .cancelRatio(cancelRatio)
+                .unregisteredRatio(unregisteredRatio)
+                .maxAmount(maxAmount)
+                .days(days)
+                .endAt(endAt == null ? null : LocalDateTime.parse(endAt))
+                .batchSize(batchSize)
+                .build();
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        GenerateDataset.Result result = datasetGenerator.generate(spec);
+        log.info("Generated {} users, {} accounts, {} transactions in {} ms", result.getUsers(),
+                result.getAccounts(), result.getTransactions(), result.getElapsedMillis());
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext, (ExitCodeGenerator) () -> 0));
+        }
+    }
+}
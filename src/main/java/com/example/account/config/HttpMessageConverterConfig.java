@@ -0,0 +1,16 @@
+package com.example.account.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class HttpMessageConverterConfig {
+
+    // 스프링 부트 기본 Jackson 컨버터를 대체한다.
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new SerializationTimingMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.account.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 조회 전용 리액티브 API 에서 사용하는 R2DBC 설정
+ * ConnectionFactory 를 빈으로 등록하면 DataSource 자동 설정이 비활성화되므로 내부에서만 관리한다.
+ * reactive.r2dbc.url 을 따로 지정하지 않으면 spring.datasource.url 에서 만들어 JPA 와 같은 DB 를 보게 한다.
+ * 커넥션 풀 사용량은 r2dbc.pool.* 게이지로 노출한다.
+ */
+@Configuration
+public class ReactiveDatabaseConfig {
+    @Value("${reactive.r2dbc.url:}")
+    private String url;
+    @Value("${spring.datasource.url}")
+    private String jdbcUrl;
+    @Value("${reactive.r2dbc.username:${spring.datasource.username}}")
+    private String username;
+    @Value("${reactive.r2dbc.password:${spring.datasource.password:}}")
+    private String password;
+    @Value("${reactive.r2dbc.max-pool-size:10}")
+    private int maxPoolSize;
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(MeterRegistry meterRegistry) {
+        String r2dbcUrl = url.isEmpty() ? toR2dbcUrl(jdbcUrl) : url;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(maxPoolSize)
+                .build());
+        connectionPool.getMetrics().ifPresent(metrics -> {
+            Gauge.builder("r2dbc.pool.acquired", metrics, PoolMetrics::acquiredSize).register(meterRegistry);
+            Gauge.builder("r2dbc.pool.allocated", metrics, PoolMetrics::allocatedSize).register(meterRegistry);
+            Gauge.builder("r2dbc.pool.pending", metrics, PoolMetrics::pendingAcquireSize).register(meterRegistry);
+        });
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * jdbc:h2:mem:test;DB_CLOSE_DELAY=-1 -> r2dbc:h2:mem:///test;DB_CLOSE_DELAY=-1
+     * jdbc:postgresql://host/db -> r2dbc:postgresql://host/db
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("Cannot derive R2DBC url from " + jdbcUrl
+                    + ". Set reactive.r2dbc.url explicitly.");
+        }
+        String url = jdbcUrl.substring("jdbc:".length());
+        for (String h2Protocol : new String[]{"h2:mem:", "h2:file:"}) {
+            if (url.startsWith(h2Protocol) && !url.startsWith(h2Protocol + "//")) {
+                return "r2dbc:" + h2Protocol + "///" + url.substring(h2Protocol.length());
+            }
+        }
+        return "r2dbc:" + url;
+    }
+
+    @PreDestroy
+    public void closePool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.account.config;
+
+import com.example.account.jfr.SerializationEvent;
+import com.example.account.timing.RequestTimings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 직렬화 구간을 측정하는 Jackson 컨버터 (JFR, Server-Timing)
+ * Server-Timing 측정 중인 요청은 직렬화 결과를 잠시 담아 두었다가, 직렬화 시간까지 포함한 헤더를 먼저 쓰고 본문을 보낸다.
+ */
+public class SerializationTimingMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public SerializationTimingMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings timings = RequestTimings.current();
+        BufferedOutputMessage buffered = timings == null ? null : new BufferedOutputMessage(outputMessage);
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, buffered == null ? outputMessage : buffered);
+        } finally {
+            RequestTimings.addSerialization(System.nanoTime() - start);
+            event.finish(object);
+        }
+        if (buffered != null) {
+            // 본문을 쓰면 헤더가 커밋되므로 헤더를 먼저 추가한다.
+            outputMessage.getHeaders().set(RequestTimings.HEADER, timings.toHeaderValue());
+            buffered.body.writeTo(outputMessage.getBody());
+        }
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage target;
+        private final FastByteArrayOutputStream body = new FastByteArrayOutputStream(256);
+
+        private BufferedOutputMessage(HttpOutputMessage target) {
+            this.target = target;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return target.getHeaders();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.account.config.datasource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * datasource.routing.enabled=true 인 경우 원본/복제본 DataSource 를 구성한다.
+ * 로컬 설정의 복제본은 별도 H2 인스턴스이고, ReplicaTableLinker 가 원본 테이블을 연결한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+
+    @Bean
+    public DataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                        @Value("${spring.datasource.username}") String username,
+                                        @Value("${spring.datasource.password:}") String password) {
+        return DataSourceBuilder.create()
+                .driverClassName(driverClassName)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                        @Value("${datasource.replica.username}") String username,
+                                        @Value("${datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .driverClassName(driverClassName)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Value("${datasource.replica.max-lag-ms:1000}") long maxLagMillis,
+                                           @Value("${datasource.replica.retry-after-ms:5000}") long retryAfterMillis) {
+        return new ReplicaLagGuard(maxLagMillis, retryAfterMillis);
+    }
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    @ConditionalOnProperty(name = "datasource.replica.link-tables", havingValue = "true")
+    public ReplicaTableLinker replicaTableLinker(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                 @Value("${spring.datasource.url}") String url,
+                                                 @Value("${spring.datasource.username}") String username,
+                                                 @Value("${spring.datasource.password:}") String password) {
+        return new ReplicaTableLinker(primaryDataSource, replicaDataSource, url, username, password);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagGuard replicaLagGuard) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard));
+    }
+}
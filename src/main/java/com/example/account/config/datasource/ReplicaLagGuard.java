@@ -0,0 +1,51 @@
+package com.example.account.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제 지연 가드
+ * 1. 쓰기를 커밋한 쓴 쪽(writer)은 maxLagMillis 동안 복제본에 반영되지 않았을 수 있으므로 원본에서 읽는다.
+ *    (다른 쓴 쪽의 읽기는 계속 복제본으로 보낸다)
+ * 2. 복제본 연결에 실패하면 retryAfterMillis 동안 원본으로 페일오버한다.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+    // 이보다 많이 쌓이면 지연 시간이 지난 쓴 쪽을 정리
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long maxLagMillis;
+    private final long retryAfterMillis;
+
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private volatile long replicaDownUntil = 0L;
+
+    public ReplicaLagGuard(long maxLagMillis, long retryAfterMillis) {
+        this.maxLagMillis = maxLagMillis;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public void markWrite(String writer) {
+        long now = System.currentTimeMillis();
+        lastWriteAt.put(writer, now);
+        if (lastWriteAt.size() > CLEANUP_THRESHOLD) {
+            lastWriteAt.values().removeIf(writtenAt -> now - writtenAt > maxLagMillis);
+        }
+    }
+
+    public void markReplicaDown() {
+        log.warn("Replica connection failed. Fail over to primary for {} ms", retryAfterMillis);
+        replicaDownUntil = System.currentTimeMillis() + retryAfterMillis;
+    }
+
+    public boolean isReplicaReadable(String writer) {
+        long now = System.currentTimeMillis();
+        if (now < replicaDownUntil) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(writer);
+        return writtenAt == null || now - writtenAt > maxLagMillis;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.account.config.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 로컬 복제본 구성 (datasource.replica.link-tables=true)
+ * 로컬에는 복제가 없으므로, 별도 H2 인스턴스인 복제본에 원본 테이블을 읽기 전용 LINKED TABLE 로 연결한다.
+ * 원본 스키마(Hibernate ddl-auto)가 만들어진 뒤에 실행되어야 하므로 DB 초기화 이후에 생성한다.
+ */
+@Slf4j
+public class ReplicaTableLinker {
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final String primaryUrl;
+    private final String username;
+    private final String password;
+
+    public ReplicaTableLinker(DataSource primaryDataSource, DataSource replicaDataSource,
+                              String primaryUrl, String username, String password) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.primaryUrl = primaryUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    @PostConstruct
+    public void link() {
+        List<String> tables = primary.queryForList("select table_name from information_schema.tables " +
+                "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'", String.class);
+        for (String table : tables) {
+            replica.execute("drop table if exists " + table);
+            replica.execute("create linked table " + table + "('org.h2.Driver', " + quote(primaryUrl) + ", "
+                    + quote(username) + ", " + quote(password) + ", " + quote(table) + ") readonly");
+        }
+        log.info("Linked {} primary tables into the local replica", tables.size());
+    }
+
+    private static String quote(String value) {
+        return "'" + (value == null ? "" : value.replace("'", "''")) + "'";
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.account.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 원본으로 라우팅한다.
+ * 트랜잭션 시작 이후에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * 쓴 쪽은 X-Client-Id 헤더(없으면 요청 주소)로 구분하고, 요청 밖(배치/백그라운드)에서는 스레드로 구분한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final DataSource primary;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard) {
+        this.primary = primary;
+        this.replicaLagGuard = replicaLagGuard;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // 커밋 시점부터 복제 지연 시간을 계산한다.
+                String writer = currentWriter();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        replicaLagGuard.markWrite(writer);
+                    }
+                });
+            }
+            return DataSourceType.PRIMARY;
+        }
+        return replicaLagGuard.isReplicaReadable(currentWriter()) ? DataSourceType.REPLICA : DataSourceType.PRIMARY;
+    }
+
+    static String currentWriter() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String clientId = request.getHeader(CLIENT_ID_HEADER);
+            return clientId != null ? "client:" + clientId : "address:" + request.getRemoteAddr();
+        }
+        return "thread:" + Thread.currentThread().getId();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target == primary) {
+                throw e;
+            }
+            // 복제본 장애 -> 원본으로 페일오버
+            replicaLagGuard.markReplicaDown();
+            return primary.getConnection();
+        }
+    }
+}
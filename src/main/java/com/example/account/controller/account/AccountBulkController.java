@@ -0,0 +1,49 @@
+package com.example.account.controller.account;
+
+import com.example.account.dto.account.BulkCreateAccount;
+import com.example.account.service.account.AccountBulkService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 계좌 일괄 생성
+ * 항목별 결과를 한 줄에 하나씩 JSON 으로 (NDJSON) chunk 가 커밋될 때마다 내려보낸다.
+ * 클라이언트 연결이 끊기면 쓰기 실패로 남은 chunk 는 처리하지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountBulkController {
+    private static final byte NEW_LINE = '\n';
+
+    private final AccountBulkService accountBulkService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/account/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createAccounts(@RequestBody @Valid BulkCreateAccount.Request request) {
+        StreamingResponseBody body = outputStream -> accountBulkService.createAccounts(request.getAccounts(),
+                results -> {
+                    try {
+                        for (BulkCreateAccount.Result result : results) {
+                            outputStream.write(objectMapper.writeValueAsBytes(result));
+                            outputStream.write(NEW_LINE);
+                        }
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.account.controller.account;
 
 import com.example.account.domain.account.Account;
+import com.example.account.dto.account.AccountDto;
 import com.example.account.dto.account.AccountInfo;
 import com.example.account.dto.account.CreateAccount;
 import com.example.account.dto.account.DeleteAccount;
+import com.example.account.exception.account.AccountException;
+import com.example.account.service.account.AccountQueryCoalescer;
 import com.example.account.service.account.AccountService;
+import com.example.account.service.account.AccountVersionService;
+import com.example.account.service.account.OffHeapBalanceCache;
+import com.example.account.service.transaction.HotBalanceService;
+import com.example.account.type.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,10 +26,13 @@ import java.util.stream.Collectors;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountQueryCoalescer accountQueryCoalescer;
+    private final AccountVersionService accountVersionService;
+    private final OffHeapBalanceCache offHeapBalanceCache;
+    private final ObjectProvider<HotBalanceService> hotBalanceServiceProvider;
 
     @PostMapping("/account")
     public CreateAccount.Response createAccount(@RequestBody @Valid CreateAccount.Request request) {
-        accountService.createdAccount(request.getUserId(), request.getInitialBalance());
         return CreateAccount.Response.from(accountService.createdAccount(
                 request.getUserId(),
                 request.getInitialBalance())
@@ -29,6 +41,10 @@ public class AccountController {
 
     @DeleteMapping("/account")
     public DeleteAccount.Response deleteAccount(@RequestBody @Valid DeleteAccount.Request request) {
+        // Redis 잔액 모드에서는 DB 잔액이 반영 주기만큼 늦으므로 잔액이 남은 계좌를 해지할 수 있다.
+        if (hotBalanceServiceProvider.getIfAvailable() != null) {
+            throw AccountException.of(ErrorCode.HOT_BALANCE_MODE_UNSUPPORTED);
+        }
         return DeleteAccount.Response.from(
                 accountService.deleteAccount(
                         request.getUserId(),
@@ -37,10 +53,19 @@ public class AccountController {
         );
     }
 
+    // If-None-Match 가 현재 버전과 같으면 DB 조회 없이 304 응답
     @GetMapping("/account")
-    public List<AccountInfo> getAccountsByUserId(@RequestParam("user_id") Long userId) {
-        return accountService.getAccountsByUserId(userId)
-                .stream().map(accountDto -> AccountInfo.builder()
+    public List<AccountInfo> getAccountsByUserId(@RequestParam("user_id") Long userId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(accountVersionService.userETag(userId))) {
+            return null;
+        }
+        List<AccountInfo> cached = offHeapBalanceCache.findAccountsByUserId(userId);
+        if (cached != null) {
+            return cached;
+        }
+        List<AccountDto> accounts = accountQueryCoalescer.getAccountsByUserId(userId);
+        offHeapBalanceCache.fill(accounts);
+        return accounts.stream().map(accountDto -> AccountInfo.builder()
                         .accountNumber(accountDto.getAccountNumber())
                         .balance(accountDto.getBalance())
                         .build())
@@ -48,7 +73,10 @@ public class AccountController {
     }
 
     @GetMapping("/account/{id}")
-    public Account getAccount(@PathVariable("id") Long id) {
+    public Account getAccount(@PathVariable("id") Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(accountVersionService.accountETag(id))) {
+            return null;
+        }
         return accountService.getAccount(id);
     }
 
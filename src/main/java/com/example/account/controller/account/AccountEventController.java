@@ -0,0 +1,24 @@
+package com.example.account.controller.account;
+
+import com.example.account.service.account.BalanceStreamHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 계좌 잔액 변경 스트림 (SSE)
+ * 잔액 사용/취소가 커밋될 때마다 "balance" 이벤트로 거래 후 잔액을 보낸다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountEventController {
+    private final BalanceStreamHub balanceStreamHub;
+
+    @GetMapping(value = "/account/{accountNumber}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBalance(@PathVariable("accountNumber") String accountNumber) {
+        return balanceStreamHub.subscribe(accountNumber);
+    }
+}
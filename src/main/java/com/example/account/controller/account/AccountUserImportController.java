@@ -0,0 +1,61 @@
+package com.example.account.controller.account;
+
+import com.example.account.dto.account.ImportAccountUser;
+import com.example.account.service.account.AccountUserImportService;
+import com.example.account.type.account.ImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 사용자 대량 가져오기
+ * 본문(text/csv 또는 application/x-ndjson)을 그대로 스트리밍으로 읽고,
+ * chunk 가 커밋될 때마다 진행 상황을 한 줄씩 (NDJSON) 내려보낸다.
+ * 실패한 경우 마지막 committedLine 을 startLine 으로 같은 본문을 다시 보내면 이어서 가져온다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountUserImportController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final byte NEW_LINE = '\n';
+
+    private final AccountUserImportService accountUserImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/account-user/import",
+            consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(
+            @RequestParam(value = "startLine", defaultValue = "0") long startLine,
+            HttpServletRequest request) throws IOException {
+        ImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(
+                request.getContentType())) ? ImportFormat.NDJSON : ImportFormat.CSV;
+        InputStream inputStream = request.getInputStream();
+        StreamingResponseBody body = outputStream -> accountUserImportService.importUsers(
+                inputStream, format, startLine, progress -> write(outputStream, progress));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void write(OutputStream outputStream, ImportAccountUser.Progress progress) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(progress));
+            outputStream.write(NEW_LINE);
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.account.controller.reactive;
+
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.dto.transaction.QueryTransactionResponse;
+import com.example.account.service.reactive.ReactiveQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 조회 컨트롤러 (기존 AccountController, TransactionController 와 병행)
+ * 응답을 기다리는 동안 서블릿 스레드를 점유하지 않는다.
+ * 1. 계좌 목록 스트리밍 (NDJSON, 구독자 요청량에 맞춰 전송)
+ * 2. 거래 확인
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveQueryController {
+    private final ReactiveQueryService reactiveQueryService;
+
+    @GetMapping(value = "/reactive/account", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AccountInfo> getAccountsByUserId(@RequestParam("user_id") Long userId) {
+        return reactiveQueryService.getAccountsByUserId(userId);
+    }
+
+    @GetMapping("/reactive/transaction/{transactionId}")
+    public Mono<QueryTransactionResponse> queryTransaction(@PathVariable("transactionId") String transactionId) {
+        return reactiveQueryService.queryTransaction(transactionId);
+    }
+}
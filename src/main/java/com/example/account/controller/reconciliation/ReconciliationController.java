@@ -0,0 +1,21 @@
+package com.example.account.controller.reconciliation;
+
+import com.example.account.dto.reconciliation.ReconciliationReport;
+import com.example.account.service.reconciliation.ReconciliationJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 잔액 대사 실행 (끝날 때까지 대기 후 불일치 리포트 반환)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReconciliationController {
+    private final ReconciliationJob reconciliationJob;
+
+    @PostMapping("/reconciliation")
+    public ReconciliationReport reconcile() {
+        return reconciliationJob.run();
+    }
+}
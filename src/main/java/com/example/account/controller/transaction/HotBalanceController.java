@@ -0,0 +1,34 @@
+package com.example.account.controller.transaction;
+
+import com.example.account.dto.transaction.CancelBalance;
+import com.example.account.dto.transaction.UseBalance;
+import com.example.account.service.transaction.HotBalanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Redis 잔액 기반 잔액 사용/취소 (transaction.hot-balance.enabled=true)
+ * 원자성은 Lua 스크립트가 보장하므로 계좌 락(@AccountLock)을 잡지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transaction.hot-balance.enabled", havingValue = "true")
+public class HotBalanceController {
+    private final HotBalanceService hotBalanceService;
+
+    @PostMapping("/transaction/use/hot")
+    public UseBalance.Response useBalance(@Valid @RequestBody UseBalance.Request request) {
+        return UseBalance.Response.from(hotBalanceService.useBalance(
+                request.getUserId(), request.getAccountNumber(), request.getAmount()));
+    }
+
+    @PostMapping("/transaction/cancel/hot")
+    public CancelBalance.Response cancelBalance(@Valid @RequestBody CancelBalance.Request request) {
+        return CancelBalance.Response.from(hotBalanceService.cancelBalance(
+                request.getTransactionId(), request.getAccountNumber(), request.getAmount()));
+    }
+}
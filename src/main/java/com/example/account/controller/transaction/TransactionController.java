@@ -3,34 +3,61 @@ package com.example.account.controller.transaction;
 import com.example.account.aop.AccountLock;
 import com.example.account.dto.transaction.CancelBalance;
 import com.example.account.dto.transaction.QueryTransactionResponse;
+import com.example.account.dto.transaction.Transfer;
 import com.example.account.dto.transaction.UseBalance;
 import com.example.account.exception.account.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.service.transaction.AsyncUseBalanceService;
+import com.example.account.service.transaction.HotBalanceService;
 import com.example.account.service.transaction.TransactionService;
+import com.example.account.type.transaction.TransactionResultType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * 잔액 관련 컨트롤러
  * 1. 잔액 사용
  * 2. 잔액 사용 취소
  * 3. 거래 확인
+ * 4. 비동기 잔액 사용 (202 Accepted + 거래 확인 폴링 / DeferredResult)
+ * 5. 이체
+ * Redis 잔액 모드(transaction.hot-balance.enabled=true)에서는 Redis 가 잔액의 원본이므로
+ * 잔액 사용/취소는 HotBalanceService 로 처리하고, DB 잔액을 직접 바꾸는 이체/비동기 사용은 거절한다.
  */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class TransactionController {
     private final TransactionService transactionService;
+    private final AsyncUseBalanceService asyncUseBalanceService;
+    private final ObjectProvider<HotBalanceService> hotBalanceServiceProvider;
+
+    @Value("${transaction.use.delay-ms:3000}")
+    private long useDelayMillis;
+
+    @Value("${transaction.async.deferred-timeout-ms:30000}")
+    private long deferredTimeoutMillis;
 
     // 거래 생성 API
     @PostMapping("/transaction/use")
     @AccountLock
     public UseBalance.Response useBalance(@Valid @RequestBody UseBalance.Request request) throws InterruptedException {
+        HotBalanceService hotBalanceService = hotBalanceServiceProvider.getIfAvailable();
+        if (hotBalanceService != null) {
+            // 실패건은 Redis 저널에 남는다.
+            return UseBalance.Response.from(hotBalanceService.useBalance(
+                    request.getUserId(), request.getAccountNumber(), request.getAmount()));
+        }
 
         try {
             // 성공건 저장
-            Thread.sleep(3000L);
+            Thread.sleep(useDelayMillis);
             return UseBalance.Response.from(
                     transactionService.useBalance(
                             request.getUserId(),
@@ -54,6 +81,12 @@ public class TransactionController {
     @PostMapping("/transaction/cancel")
     @AccountLock
     public CancelBalance.Response cancelBalance(@Valid @RequestBody CancelBalance.Request request) {
+        HotBalanceService hotBalanceService = hotBalanceServiceProvider.getIfAvailable();
+        if (hotBalanceService != null) {
+            return CancelBalance.Response.from(hotBalanceService.cancelBalance(
+                    request.getTransactionId(), request.getAccountNumber(), request.getAmount()));
+        }
+
         try {
             return CancelBalance.Response.from(
                     transactionService.cancelBalance(request.getTransactionId(),
@@ -70,10 +103,70 @@ public class TransactionController {
         }
     }
 
+    // 이체 API : 두 계좌를 계좌번호 순서로 잠그고 출금/입금을 한 트랜잭션으로 처리
+    @PostMapping("/transaction/transfer")
+    @AccountLock
+    public Transfer.Response transfer(@Valid @RequestBody Transfer.Request request) {
+        rejectIfHotBalance();
+        try {
+            return Transfer.Response.from(
+                    transactionService.transfer(request.getUserId(), request.getFromAccountNumber(),
+                            request.getToAccountNumber(), request.getAmount()));
+        } catch (AccountException e) {
+            log.error("Failed to transfer. ");
+
+            transactionService.saveFailedTransferTransaction(
+                    request.getFromAccountNumber(),
+                    request.getAmount()
+            );
+            throw e;
+        }
+    }
+
+    // 비동기 거래 생성 API : 접수 후 거래 아이디 반환, 결과는 거래 확인 API 로 조회
+    @PostMapping("/transaction/use/async")
+    public ResponseEntity<UseBalance.AcceptedResponse> useBalanceAsync(@Valid @RequestBody UseBalance.Request request) {
+        rejectIfHotBalance();
+        String transactionId = TransactionService.createTransactionId();
+        asyncUseBalanceService.submit(transactionId, request.getUserId(),
+                request.getAccountNumber(), request.getAmount());
+
+        return ResponseEntity.accepted().body(UseBalance.AcceptedResponse.builder()
+                .accountNumber(request.getAccountNumber())
+                .transactionResult(TransactionResultType.P)
+                .transactionId(transactionId)
+                .amount(request.getAmount())
+                .build());
+    }
+
+    // 비동기 거래 생성 API : 서블릿 스레드를 반환하고 처리가 끝나면 응답
+    @PostMapping("/transaction/use/deferred")
+    public DeferredResult<UseBalance.Response> useBalanceDeferred(@Valid @RequestBody UseBalance.Request request) {
+        rejectIfHotBalance();
+        DeferredResult<UseBalance.Response> deferredResult = new DeferredResult<>(deferredTimeoutMillis);
+        asyncUseBalanceService.submit(TransactionService.createTransactionId(), request.getUserId(),
+                        request.getAccountNumber(), request.getAmount())
+                .whenComplete((transactionDto, e) -> {
+                    if (e != null) {
+                        deferredResult.setErrorResult(e);
+                    } else {
+                        deferredResult.setResult(UseBalance.Response.from(transactionDto));
+                    }
+                });
+        return deferredResult;
+    }
+
     // 잔액 사용 확인 API
     @GetMapping("/transaction/{transactionId}")
     public QueryTransactionResponse queryTransaction(@PathVariable("transactionId") String transactionId) {
-        return QueryTransactionResponse.from(transactionService.queryTransaction(transactionId));
+        return QueryTransactionResponse.from(asyncUseBalanceService.findPending(transactionId)
+                .orElseGet(() -> transactionService.queryTransaction(transactionId)));
     }
 
-}
\ No newline at end of file
+    // Redis 에 반영 대기 중인 차감을 보지 못하고 DB 잔액을 바꾸면 초과 인출이 생긴다.
+    private void rejectIfHotBalance() {
+        if (hotBalanceServiceProvider.getIfAvailable() != null) {
+            throw AccountException.of(ErrorCode.HOT_BALANCE_MODE_UNSUPPORTED);
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.example.account.domain.account;
 
 import com.example.account.domain.BaseEntity;
+import com.example.account.domain.converter.AccountNumberConverter;
 import com.example.account.exception.account.AccountException;
 import com.example.account.type.ErrorCode;
 import com.example.account.type.account.AccountStatus;
-import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,11 +16,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "ux_account_account_number", columnList = "accountNumber", unique = true))
 public class Account extends BaseEntity {
 
     @ManyToOne
     private AccountUser accountUser;
 
+    // BIGINT 로 저장 (외부에는 10자리 문자열)
+    @Convert(converter = AccountNumberConverter.class)
     private String accountNumber;
 
     @Enumerated(EnumType.STRING)
@@ -35,10 +36,10 @@ public class Account extends BaseEntity {
 
     public void useBalance(Long amount) {
         if (amount < 10) {
-            throw new AccountException(ErrorCode.INVALID_REQUEST);
+            throw AccountException.of(ErrorCode.INVALID_REQUEST);
         }
         if (amount > balance) {
-            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+            throw AccountException.of(ErrorCode.AMOUNT_EXCEED_BALANCE);
         }
         balance -= amount;
     }
@@ -46,7 +47,15 @@ public class Account extends BaseEntity {
 
     public void cancelBalance(Long amount) {
         if (amount < 0) {
-            throw new AccountException(ErrorCode.INVALID_REQUEST);
+            throw AccountException.of(ErrorCode.INVALID_REQUEST);
+        }
+        balance += amount;
+    }
+
+    // 이체 입금
+    public void deposit(Long amount) {
+        if (amount < 10) {
+            throw AccountException.of(ErrorCode.INVALID_REQUEST);
         }
         balance += amount;
     }
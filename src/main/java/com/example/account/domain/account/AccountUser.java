@@ -1,8 +1,10 @@
 package com.example.account.domain.account;
 
 import com.example.account.domain.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -14,4 +16,9 @@ public class AccountUser extends BaseEntity {
 
     private String name;
 
+    // 사용 중(IN_USE)인 계좌 수 (계좌 생성/해지 시 조건부 update 로만 변경)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int activeAccountCount;
+
 }
@@ -0,0 +1,26 @@
+package com.example.account.domain.account;
+
+import com.example.account.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import lombok.*;
+
+/**
+ * 사용자 가져오기 CLI 의 이어서 시작할 위치
+ * chunk 저장과 같은 트랜잭션에서 갱신하므로 저장된 사용자와 항상 일치한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+public class AccountUserImportCheckpoint extends BaseEntity {
+
+    // 가져오는 파일 (절대 경로)
+    @Column(nullable = false, unique = true, length = 1024)
+    private String importKey;
+
+    // 이 줄까지 반영 완료
+    private long committedLine;
+}
@@ -0,0 +1,48 @@
+package com.example.account.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 계좌번호 (10자리 숫자 문자열) <-> BIGINT
+ * 앞자리 0 은 10자리로 채워 복원한다. (예 : 123456789 -> "0123456789")
+ * 숫자 10자리가 아닌 값은 null 로 바꾸므로 조회 조건으로 쓰이면 일치하는 행이 없다.
+ */
+@Converter
+public class AccountNumberConverter implements AttributeConverter<String, Long> {
+    private static final int LENGTH = 10;
+
+    @Override
+    public Long convertToDatabaseColumn(String accountNumber) {
+        return toColumn(accountNumber);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long column) {
+        return column == null ? null : toAccountNumber(column);
+    }
+
+    public static Long toColumn(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != LENGTH) {
+            return null;
+        }
+        long value = 0L;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static String toAccountNumber(long column) {
+        char[] digits = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + column % 10);
+            column /= 10;
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.account.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 거래 아이디 (32자리 16진수 문자열) <-> BINARY(16)
+ * 외부(JSON)에는 기존과 같은 소문자 16진수 문자열로 보인다.
+ * 형식이 맞지 않는 값은 null 로 바꾸므로 조회 조건으로 쓰이면 일치하는 행이 없다.
+ */
+@Converter
+public class TransactionIdConverter implements AttributeConverter<String, byte[]> {
+    private static final int BYTES = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String transactionId) {
+        return toColumn(transactionId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] column) {
+        return column == null ? null : toTransactionId(column);
+    }
+
+    public static byte[] toColumn(String transactionId) {
+        if (transactionId == null || transactionId.length() != BYTES * 2) {
+            return null;
+        }
+        byte[] bytes = new byte[BYTES];
+        for (int i = 0; i < BYTES; i++) {
+            int high = Character.digit(transactionId.charAt(i * 2), 16);
+            int low = Character.digit(transactionId.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    public static String toTransactionId(byte[] column) {
+        char[] chars = new char[column.length * 2];
+        for (int i = 0; i < column.length; i++) {
+            chars[i * 2] = HEX[(column[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[column[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.account.domain.outbox;
+
+import com.example.account.domain.BaseEntity;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 변경 아웃박스
+ * 거래 저장과 같은 트랜잭션에서 기록하고, OutboxRelay 가 읽어 외부로 발행한 뒤 삭제한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+public class OutboxEvent extends BaseEntity {
+
+    private Long accountId;
+
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionResultType transactionResultType;
+
+    private String transactionId;
+
+    private Long amount;
+
+    private Long balanceSnapshot;
+
+    private LocalDateTime transactedAt;
+
+    public static OutboxEvent from(Transaction transaction) {
+        return OutboxEvent.builder()
+                .accountId(transaction.getAccount().getId())
+                .accountNumber(transaction.getAccount().getAccountNumber())
+                .transactionType(transaction.getTransactionType())
+                .transactionResultType(transaction.getTransactionResultType())
+                .transactionId(transaction.getTransactionId())
+                .amount(transaction.getAmount())
+                .balanceSnapshot(transaction.getBalanceSnapshot())
+                .transactedAt(transaction.getTransactedAt())
+                .build();
+    }
+}
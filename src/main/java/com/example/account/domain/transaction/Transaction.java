@@ -2,12 +2,10 @@ package com.example.account.domain.transaction;
 
 import com.example.account.domain.BaseEntity;
 import com.example.account.domain.account.Account;
+import com.example.account.domain.converter.TransactionIdConverter;
 import com.example.account.type.transaction.TransactionResultType;
 import com.example.account.type.transaction.TransactionType;
-import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,6 +16,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "ux_transaction_transaction_id", columnList = "transactionId", unique = true))
 public class Transaction extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -33,6 +32,9 @@ public class Transaction extends BaseEntity {
 
     private Long balanceSnapshot;
 
+    // BINARY(16) 로 저장 (외부에는 32자리 16진수 문자열)
+    @Convert(converter = TransactionIdConverter.class)
+    @Column(columnDefinition = "binary(16)")
     private String transactionId;
 
     private LocalDateTime transactedAt;
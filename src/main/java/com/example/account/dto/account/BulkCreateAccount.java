@@ -0,0 +1,68 @@
+package com.example.account.dto.account;
+
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkCreateAccount {
+    /**
+     * {
+     *    "accounts" : [
+     *      { "userId" : 1, "initialBalance" : 1000 },
+     *      { "userId" : 2, "initialBalance" : 0 }
+     *    ]
+     *  }
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+        @NotEmpty
+        @Size(max = 100000)
+        private List<@Valid CreateAccount.Request> accounts;
+    }
+
+    /**
+     * 요청 순서(index)별 결과 한 줄
+     * 성공 : { "index" : 0, "userId" : 1, "accountNumber" : "1000000000", "registeredAt" : ... }
+     * 실패 : { "index" : 1, "userId" : 2, "errorCode" : "USER_NOT_FOUND" }
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private int index;
+        private Long userId;
+        private String accountNumber;
+        private LocalDateTime registeredAt;
+        private ErrorCode errorCode;
+
+        public static Result success(int index, AccountDto accountDto) {
+            return Result.builder()
+                    .index(index)
+                    .userId(accountDto.getUserId())
+                    .accountNumber(accountDto.getAccountNumber())
+                    .registeredAt(accountDto.getRegisteredAt())
+                    .build();
+        }
+
+        public static Result fail(int index, Long userId, ErrorCode errorCode) {
+            return Result.builder()
+                    .index(index)
+                    .userId(userId)
+                    .errorCode(errorCode)
+                    .build();
+        }
+    }
+}
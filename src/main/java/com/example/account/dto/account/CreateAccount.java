@@ -1,6 +1,7 @@
 package com.example.account.dto.account;
 
 
+import com.example.account.aop.AccountLockIdInterface;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -29,7 +30,7 @@ public class CreateAccount {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class Response {
+    public static class Response implements AccountLockIdInterface {
         private Long userId;
         private String accountNumber;
         private LocalDateTime registeredAt;
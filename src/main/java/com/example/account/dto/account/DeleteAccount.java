@@ -1,5 +1,6 @@
 package com.example.account.dto.account;
 
+import com.example.account.aop.AccountLockIdInterface;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -30,7 +31,7 @@ public class DeleteAccount {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class Response {
+    public static class Response implements AccountLockIdInterface {
         private Long userId;
         private String accountNumber;
         private LocalDateTime unRegisteredAt;
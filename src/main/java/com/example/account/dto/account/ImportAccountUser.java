@@ -0,0 +1,44 @@
+package com.example.account.dto.account;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+public class ImportAccountUser {
+
+    /**
+     * chunk 가 커밋될 때마다 보내는 진행 상황
+     * 실패한 경우 committedLine 을 startLine 으로 다시 요청하면 이어서 가져온다.
+     * {
+     *    "committedLine" : 20000,
+     *    "imported" : 19998,
+     *    "rejected" : 2,
+     *    "rejections" : [ { "line" : 17, "reason" : "blank name" } ],
+     *    "done" : false
+     *  }
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Progress {
+        private long committedLine; // 이 줄까지 반영 완료 (1부터 시작, 헤더/빈 줄 포함)
+        private long imported; // 이번 요청에서 저장한 사용자 수
+        private long rejected; // 이번 요청에서 검증 실패한 줄 수
+        private List<Rejection> rejections; // 이번 chunk 의 검증 실패 줄
+        private boolean done;
+        private String error;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejection {
+        private long line;
+        private String reason;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.account.dto.dataset;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class GenerateDataset {
+
+    /**
+     * 생성할 데이터 규모와 분포 (같은 seed, endAt 이면 같은 데이터)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Spec {
+        private long seed;
+        private int users;
+        private int maxAccountsPerUser; // 사용자당 계좌 수 1 ~ max (적은 쪽으로 치우침)
+        private long transactions; // 계좌별 거래 수는 Zipf 분포로 나눈다. (해지 계좌 몫은 생성하지 않음)
+        private double zipfSkew; // 0 이면 균등
+        private double failureRatio; // 실패(F) 사용 거래 비율
+        private double cancelRatio; // 직전 성공 사용 거래를 취소하는 비율
+        private double unregisteredRatio; // 해지 계좌 비율 (잔액 0, 거래 없음)
+        private long maxAmount; // 사용 금액 상한
+        private int days; // 계좌 개설 / 거래 시각을 endAt 이전 days 일에 고르게 분포
+        private LocalDateTime endAt;
+        private int batchSize; // JDBC batch 크기 (batch 마다 커밋)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private long users;
+        private long accounts;
+        private long transactions;
+        private long elapsedMillis;
+    }
+}
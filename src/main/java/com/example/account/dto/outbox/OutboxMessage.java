@@ -0,0 +1,43 @@
+package com.example.account.dto.outbox;
+
+import com.example.account.domain.outbox.OutboxEvent;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부로 발행하는 잔액 변경 메시지
+ * outboxId 는 발행 순서가 아니라 중복 제거용 키 (at-least-once 발행)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxMessage {
+    private Long outboxId;
+    private Long accountId;
+    private String accountNumber;
+    private TransactionType transactionType;
+    private TransactionResultType transactionResultType;
+    private String transactionId;
+    private Long amount;
+    private Long balanceSnapshot;
+    private LocalDateTime transactedAt;
+
+    public static OutboxMessage fromEntity(OutboxEvent outboxEvent) {
+        return OutboxMessage.builder()
+                .outboxId(outboxEvent.getId())
+                .accountId(outboxEvent.getAccountId())
+                .accountNumber(outboxEvent.getAccountNumber())
+                .transactionType(outboxEvent.getTransactionType())
+                .transactionResultType(outboxEvent.getTransactionResultType())
+                .transactionId(outboxEvent.getTransactionId())
+                .amount(outboxEvent.getAmount())
+                .balanceSnapshot(outboxEvent.getBalanceSnapshot())
+                .transactedAt(outboxEvent.getTransactedAt())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.account.dto.reconciliation;
+
+import com.example.account.type.reconciliation.DiscrepancyType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 잔액 대사 결과
+ * discrepancies 는 최대 reconciliation.max-reported 건까지만 담고, 전체 건수는 discrepancyCount
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationReport {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int partitions;
+    private long accounts;
+    private long transactions;
+    private long discrepancyCount;
+    private List<Discrepancy> discrepancies;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Discrepancy {
+        private DiscrepancyType type;
+        private String accountNumber;
+        private String transactionId; // BALANCE_MISMATCH 는 마지막 거래
+        private Long expected;
+        private Long actual;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.account.dto.transaction;
 
+import com.example.account.aop.AccountLockIdInterface;
 import com.example.account.type.transaction.TransactionResultType;
 import com.example.account.type.transaction.TransactionType;
 import lombok.*;
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class QueryTransactionResponse {
+public class QueryTransactionResponse implements AccountLockIdInterface {
     private String accountNumber;
     private TransactionType transactionType;
     private TransactionResultType transactionResult;
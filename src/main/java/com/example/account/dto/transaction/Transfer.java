@@ -0,0 +1,91 @@
+package com.example.account.dto.transaction;
+
+import com.example.account.aop.AccountLockIdsInterface;
+import com.example.account.ratelimit.UserIdInterface;
+import com.example.account.type.transaction.TransactionResultType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+public class Transfer {
+    /**
+     * {
+     *    "userId" : 1,
+     *    "fromAccountNumber" : "1000000000",
+     *    "toAccountNumber" : "1000000001",
+     *    "amount" : 1000
+     *  }
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request implements AccountLockIdsInterface, UserIdInterface {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String fromAccountNumber;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String toAccountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1000_000_000)
+        private Long amount;
+
+        @JsonIgnore
+        @Override
+        public List<String> getAccountNumbers() {
+            // 검증 전(요청 한도 확인)에도 호출되므로 null 을 허용하는 목록
+            return Arrays.asList(fromAccountNumber, toAccountNumber);
+        }
+    }
+
+    /**
+     *  {
+     *      "fromAccountNumber" : "1000000000",
+     *      "toAccountNumber" : "1000000001",
+     *      "transactionResult" : "S",
+     *      "withdrawalTransactionId" : "c2033bb6d82a4250gecf8e27c49b63f6",
+     *      "depositTransactionId" : "5e1f43ad0c9a4c1a9e0c3f2d7b8a6c41",
+     *      "amount" : 1000,
+     *      "transactedAt" : "2022-06-01T23:26:14.671859"
+     *  }
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private String fromAccountNumber;
+        private String toAccountNumber;
+        private TransactionResultType transactionResult;
+        private String withdrawalTransactionId;
+        private String depositTransactionId;
+        private Long amount;
+        private LocalDateTime transactedAt;
+
+        public static Response from(TransferDto transferDto) {
+            return Response.builder()
+                    .fromAccountNumber(transferDto.getWithdrawal().getAccountNumber())
+                    .toAccountNumber(transferDto.getDeposit().getAccountNumber())
+                    .transactionResult(transferDto.getWithdrawal().getTransactionResultType())
+                    .withdrawalTransactionId(transferDto.getWithdrawal().getTransactionId())
+                    .depositTransactionId(transferDto.getDeposit().getTransactionId())
+                    .amount(transferDto.getWithdrawal().getAmount())
+                    .transactedAt(transferDto.getWithdrawal().getTransactedAt())
+                    .build();
+        }
+    }
+}
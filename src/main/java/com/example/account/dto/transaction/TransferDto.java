@@ -0,0 +1,14 @@
+package com.example.account.dto.transaction;
+
+import lombok.*;
+
+// 이체 결과 (출금/입금 거래 한 쌍)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransferDto {
+    private TransactionDto withdrawal;
+    private TransactionDto deposit;
+}
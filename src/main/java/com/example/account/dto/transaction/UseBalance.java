@@ -1,6 +1,7 @@
 package com.example.account.dto.transaction;
 
 import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.ratelimit.UserIdInterface;
 import com.example.account.type.transaction.TransactionResultType;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -20,7 +21,7 @@ public class UseBalance {
     @AllArgsConstructor
     @NoArgsConstructor
     @Builder
-    public static class Request implements AccountLockIdInterface{
+    public static class Request implements AccountLockIdInterface, UserIdInterface {
         @NotNull
         @Min(1)
         private Long userId;
@@ -66,4 +67,25 @@ public class UseBalance {
                     .build();
         }
     }
+
+    /**
+     *  비동기 잔액 사용 접수 응답 (202 Accepted)
+     *  {
+     *      "accountNumber" : "1234567890",
+     *      "transactionResult" : "P",
+     *      "transactionId" : "c2033bb6d82a4250gecf8e27c49b63f6",
+     *      "amount" : 1000
+     *  }
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class AcceptedResponse {
+        private String accountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.account.event;
+
+import com.example.account.type.account.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계좌 변경 이벤트 (계좌 생성/해지, 잔액 사용/취소)
+ * 커밋 이후 조회용 캐시/버전/계좌 인덱스 갱신에 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountChangedEvent {
+    private final Long userId;
+    private final Long accountId;
+    private final String accountNumber;
+    private final AccountStatus accountStatus;
+}
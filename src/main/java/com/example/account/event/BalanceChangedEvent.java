@@ -0,0 +1,24 @@
+package com.example.account.event;
+
+import com.example.account.type.transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 변경 이벤트 (잔액 사용/취소 성공)
+ * 커밋 이후 SSE 구독자에게 전달한다. (다중 노드는 Redis topic 으로 JSON 전달)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceChangedEvent {
+    private String accountNumber;
+    private TransactionType transactionType;
+    private String transactionId;
+    private Long amount;
+    private Long balance;
+    private LocalDateTime transactedAt;
+}
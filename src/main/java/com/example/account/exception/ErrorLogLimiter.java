@@ -0,0 +1,40 @@
+package com.example.account.exception;
+
+import com.example.account.type.ErrorCode;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ErrorCode 별 로그 빈도 제한
+ * 구간(interval) 마다 한 번만 로그를 허용하고, 그 사이에 생략된 건수를 다음 로그에 함께 남긴다.
+ */
+class ErrorLogLimiter {
+    private final long intervalNanos;
+    private final AtomicLongArray nextAllowedAt;
+    private final AtomicLongArray suppressed;
+
+    ErrorLogLimiter(long intervalMillis) {
+        this.intervalNanos = intervalMillis * 1_000_000L;
+        int size = ErrorCode.values().length;
+        this.nextAllowedAt = new AtomicLongArray(size);
+        this.suppressed = new AtomicLongArray(size);
+        long now = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            nextAllowedAt.set(i, now);
+        }
+    }
+
+    /**
+     * 로그를 남겨도 되면 직전 로그 이후 생략된 건수(0 이상)를, 아니면 -1 을 반환
+     */
+    long tryAcquire(ErrorCode errorCode) {
+        int index = errorCode.ordinal();
+        long now = System.nanoTime();
+        long next = nextAllowedAt.get(index);
+        if (now - next >= 0 && nextAllowedAt.compareAndSet(index, next, now + intervalNanos)) {
+            return suppressed.getAndSet(index, 0);
+        }
+        suppressed.incrementAndGet(index);
+        return -1;
+    }
+}
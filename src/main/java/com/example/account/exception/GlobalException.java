@@ -3,52 +3,112 @@ package com.example.account.exception;
 import com.example.account.dto.error.ErrorResponse;
 import com.example.account.exception.account.AccountException;
 import com.example.account.exception.transaction.TransactionException;
+import com.example.account.jfr.SerializationEvent;
 import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Slf4j
 @RestControllerAdvice // 전역 예외처리 클래스
 public class GlobalException {
+    // 테스트 슬라이스 등 MeterRegistry 가 없는 환경에서도 동작하도록 ObjectProvider 사용
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final ErrorLogLimiter errorLogLimiter;
+    // ErrorCode 별로 미리 직렬화해 둔 ErrorResponse 본문
+    private final Map<ErrorCode, byte[]> serializedBodies = new EnumMap<>(ErrorCode.class);
+
+    public GlobalException(ObjectProvider<MeterRegistry> meterRegistry,
+                           ObjectMapper objectMapper,
+                           @Value("${error.log.interval-ms:1000}") long logIntervalMillis) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.errorLogLimiter = new ErrorLogLimiter(logIntervalMillis);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            serializedBodies.put(errorCode, serialize(new ErrorResponse(errorCode, errorCode.getDescription())));
+        }
+    }
 
     @ExceptionHandler(AccountException.class)
-    public ErrorResponse handleAccountException(AccountException e) {
-        log.error("{} is occurred", e.getErrorCode());
-        return new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
+    public ResponseEntity<?> handleAccountException(AccountException e) {
+        logBusinessError(e.getErrorCode());
+        return errorResponse(e.getErrorCode(), e.getErrorMessage());
     }
 
     @ExceptionHandler(TransactionException.class)
-    public ErrorResponse handleTransactionException(TransactionException e) {
-        log.error("{} is occurred", e.getErrorCode());
-        return new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
+    public ResponseEntity<?> handleTransactionException(TransactionException e) {
+        logBusinessError(e.getErrorCode());
+        return errorResponse(e.getErrorCode(), e.getErrorMessage());
     }
 
     @ExceptionHandler(NullPointerException.class)
-    public ErrorResponse handleNullPointerException(NullPointerException e) {
+    public ResponseEntity<?> handleNullPointerException(NullPointerException e) {
         log.error("NullPointerException is occurred.", e);
-        return new ErrorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
+        return errorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        log.error("MethodArgumentNotValidException is occurred.", e);
-        return new ErrorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
+    public ResponseEntity<?> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+        if (errorLogLimiter.tryAcquire(ErrorCode.INVALID_REQUEST) >= 0) {
+            log.warn("MethodArgumentNotValidException is occurred. {}", e.getMessage());
+        }
+        return errorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+    public ResponseEntity<?> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         log.error("DataIntegrityViolationException is occurred.", e);
-        return new ErrorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
+        return errorResponse(ErrorCode.INVALID_REQUEST, ErrorCode.INVALID_REQUEST.getDescription());
     }
 
     @ExceptionHandler(Exception.class)
-    public ErrorResponse handleException(Exception e) {
+    public ResponseEntity<?> handleException(Exception e) {
         log.error("Exception is occurred.", e);
-        return new ErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+        return errorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
                 ErrorCode.INTERNAL_SERVER_ERROR.getDescription());
     }
 
+    // 비즈니스 오류는 ErrorCode 별로 일정 간격에 한 번만 로그를 남긴다.
+    private void logBusinessError(ErrorCode errorCode) {
+        long suppressed = errorLogLimiter.tryAcquire(errorCode);
+        if (suppressed >= 0) {
+            log.warn("{} is occurred (suppressed {})", errorCode, suppressed);
+        }
+    }
+
+    // ErrorCode 별 발생 횟수 (account.errors), 기본 메시지면 미리 직렬화한 본문 사용
+    private ResponseEntity<?> errorResponse(ErrorCode errorCode, String errorMessage) {
+        meterRegistry.ifAvailable(registry -> registry.counter("account.errors",
+                "errorCode", String.valueOf(errorCode)).increment());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(errorCode.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (errorCode.getDescription().equals(errorMessage)) {
+            SerializationEvent.preSerialized(errorCode);
+            return response.body(serializedBodies.get(errorCode));
+        }
+        return response.body(new ErrorResponse(errorCode, errorMessage));
+    }
+
+    private byte[] serialize(ErrorResponse errorResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
@@ -1,19 +1,37 @@
 package com.example.account.exception.account;
 
 import com.example.account.type.ErrorCode;
-import lombok.*;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Getter
-@Setter
-@AllArgsConstructor
-@NoArgsConstructor
-@Builder
 public class AccountException extends RuntimeException {
-    private ErrorCode errorCode;
-    private String errorMessage;
+    // ErrorCode 별로 미리 만들어 둔 예외 (스택 트레이스 없음, 불변)
+    private static final Map<ErrorCode, AccountException> CACHED = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            CACHED.put(errorCode, new AccountException(errorCode));
+        }
+    }
+
+    private final ErrorCode errorCode;
+    private final String errorMessage;
 
+    // 비즈니스 예외는 스택 트레이스가 필요 없으므로 모든 생성자에서 수집하지 않는다.
     public AccountException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getDescription());
+    }
+
+    public AccountException(ErrorCode errorCode, String errorMessage) {
+        super(errorMessage, null, false, false);
         this.errorCode = errorCode;
-        this.errorMessage = errorCode.getDescription();
+        this.errorMessage = errorMessage;
+    }
+
+    public static AccountException of(ErrorCode errorCode) {
+        return CACHED.get(errorCode);
     }
 }
@@ -0,0 +1,34 @@
+package com.example.account.jfr;
+
+import com.example.account.type.ErrorCode;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 계좌 관련 JFR 이벤트 공통 필드
+ * 기록 중이 아니면 shouldCommit() 이 false 이므로 필드 계산/커밋 비용이 없다.
+ */
+@Category("Account")
+@StackTrace(false)
+public abstract class AccountEvent extends Event {
+    @Label("Account Number Hash")
+    protected int accountNumberHash;
+
+    @Label("Error Code")
+    protected String errorCode;
+
+    public void finish(String accountNumber, ErrorCode errorCode) {
+        end();
+        if (shouldCommit()) {
+            this.accountNumberHash = hash(accountNumber);
+            this.errorCode = errorCode == null ? null : errorCode.name();
+            commit();
+        }
+    }
+
+    protected static int hash(String accountNumber) {
+        return accountNumber == null ? 0 : accountNumber.hashCode();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.account.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 계좌 락 획득 (LockAopAspect)
+@Name("com.example.account.LockAcquired")
+@Label("Lock Acquired")
+public class LockAcquiredEvent extends AccountEvent {
+}
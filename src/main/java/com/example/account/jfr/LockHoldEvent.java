@@ -0,0 +1,10 @@
+package com.example.account.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 계좌 락 보유 (LockAopAspect)
+@Name("com.example.account.LockHold")
+@Label("Lock Hold")
+public class LockHoldEvent extends AccountEvent {
+}
@@ -0,0 +1,10 @@
+package com.example.account.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 계좌 락 대기 (LockAopAspect)
+@Name("com.example.account.LockWait")
+@Label("Lock Wait")
+public class LockWaitEvent extends AccountEvent {
+}
@@ -0,0 +1,42 @@
+package com.example.account.jfr;
+
+import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.dto.error.ErrorResponse;
+import com.example.account.dto.transaction.Transfer;
+import com.example.account.type.ErrorCode;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 응답 직렬화 (SerializationTimingMessageConverter)
+@Name("com.example.account.Serialization")
+@Label("Response Serialization")
+public class SerializationEvent extends AccountEvent {
+    @Label("Response Type")
+    protected String responseType;
+
+    public void finish(Object body) {
+        end();
+        if (shouldCommit()) {
+            responseType = body == null ? null : body.getClass().getSimpleName();
+            if (body instanceof AccountLockIdInterface response) {
+                accountNumberHash = hash(response.getAccountNumber());
+            } else if (body instanceof Transfer.Response response) {
+                accountNumberHash = hash(response.getFromAccountNumber());
+            }
+            if (body instanceof ErrorResponse response && response.getErrorCode() != null) {
+                errorCode = response.getErrorCode().name();
+            }
+            commit();
+        }
+    }
+
+    // 미리 직렬화한 오류 본문 (GlobalException) 은 컨버터를 거치지 않으므로 ErrorCode 만 0 길이 이벤트로 남긴다.
+    public static void preSerialized(ErrorCode errorCode) {
+        SerializationEvent event = new SerializationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            event.responseType = ErrorResponse.class.getSimpleName();
+            event.finish(null, errorCode);
+        }
+    }
+}
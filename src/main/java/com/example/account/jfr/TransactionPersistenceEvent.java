@@ -0,0 +1,10 @@
+package com.example.account.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 거래 저장 (TransactionService)
+@Name("com.example.account.TransactionPersistence")
+@Label("Transaction Persistence")
+public class TransactionPersistenceEvent extends AccountEvent {
+}
@@ -0,0 +1,10 @@
+package com.example.account.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 거래 검증 (TransactionService)
+@Name("com.example.account.TransactionValidation")
+@Label("Transaction Validation")
+public class TransactionValidationEvent extends AccountEvent {
+}
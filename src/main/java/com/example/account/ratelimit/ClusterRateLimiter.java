@@ -0,0 +1,64 @@
+package com.example.account.ratelimit;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+
+/**
+ * 노드 간 공유 요청 한도 (Redis, GCRA)
+ * 키마다 다음 토큰 도착 예정 시각(마이크로초)을 저장하고 Lua 스크립트 한 번으로 확인/갱신한다.
+ * 노드 시계 차이만큼 오차가 생길 수 있다.
+ */
+class ClusterRateLimiter {
+    // KEYS : 키 / ARGV : 현재(us), 토큰 간격(us), 허용 버스트(us), 만료(ms)
+    private static final String GCRA_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or ARGV[1])
+            if tat < now then
+                tat = now
+            end
+            if tat - now > tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], string.format('%d', tat + tonumber(ARGV[2])), 'PX', ARGV[4])
+            return 1
+            """;
+
+    // KEYS : 키 / ARGV : 토큰 간격(us) - 얻은 토큰 하나를 되돌린다. (남은 만료 시간 유지)
+    private static final String RELEASE_SCRIPT = """
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            local ttl = redis.call('PTTL', KEYS[1])
+            if tat and ttl > 0 then
+                redis.call('SET', KEYS[1], string.format('%d', tat - tonumber(ARGV[1])), 'PX', ttl)
+            end
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final String prefix;
+    private final long emissionIntervalMicros;
+    private final long burstToleranceMicros;
+    private final long expireMillis;
+
+    ClusterRateLimiter(RedissonClient redissonClient, String prefix, double ratePerSecond, int burst) {
+        this.redissonClient = redissonClient;
+        this.prefix = prefix;
+        this.emissionIntervalMicros = (long) (1_000_000L / ratePerSecond);
+        this.burstToleranceMicros = emissionIntervalMicros * (burst - 1);
+        this.expireMillis = Math.max(1L, (burstToleranceMicros + emissionIntervalMicros) / 1000L);
+    }
+
+    boolean tryAcquire(long key) {
+        Long allowed = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, GCRA_SCRIPT,
+                RScript.ReturnType.INTEGER, List.<Object>of(prefix + key),
+                System.currentTimeMillis() * 1000L, emissionIntervalMicros, burstToleranceMicros, expireMillis);
+        return allowed == 1L;
+    }
+
+    void release(long key) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.<Object>of(prefix + key), emissionIntervalMicros);
+    }
+}
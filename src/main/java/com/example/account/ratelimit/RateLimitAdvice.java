@@ -0,0 +1,157 @@
+package com.example.account.ratelimit;
+
+import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.aop.AccountLockIdsInterface;
+import com.example.account.exception.account.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.util.StripedTokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자(userId) / 계좌(accountNumber) 별 요청 한도
+ * 요청 본문을 읽은 직후, 컨트롤러 메서드(@AccountLock 락 획득, DB 조회)보다 먼저 확인하고
+ * 한도를 넘으면 TOO_MANY_REQUESTS (429) 로 거절한다.
+ * 본문의 userId/accountNumber 로 판단하므로 서블릿 필터 대신 RequestBodyAdvice 로 처리한다. (본문을 두 번 파싱하지 않음)
+ * rate-limit.cluster.enabled=true 인 경우 로컬 한도를 통과한 요청만 Redis 공유 한도를 한 번 더 확인한다.
+ * 사용자/계좌(이체는 출금/입금 계좌 모두) 한도를 모두 확인한 뒤에 소비하고, 하나라도 걸리면 이미 얻은 토큰은 되돌린다.
+ * (거절된 요청이 다른 한도를 깎지 않도록)
+ */
+@Slf4j
+@ControllerAdvice
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitAdvice extends RequestBodyAdviceAdapter {
+    private final StripedTokenBucket userBuckets;
+    private final StripedTokenBucket accountBuckets;
+    private final ClusterRateLimiter userClusterLimiter;
+    private final ClusterRateLimiter accountClusterLimiter;
+
+    public RateLimitAdvice(ObjectProvider<RedissonClient> redissonClient,
+                           @Value("${rate-limit.user.rate-per-second:20}") double userRate,
+                           @Value("${rate-limit.user.burst:40}") int userBurst,
+                           @Value("${rate-limit.account.rate-per-second:20}") double accountRate,
+                           @Value("${rate-limit.account.burst:40}") int accountBurst,
+                           @Value("${rate-limit.idle-eviction-ms:60000}") long idleMillis,
+                           @Value("${rate-limit.stripes:64}") int stripes,
+                           @Value("${rate-limit.cluster.enabled:false}") boolean clusterEnabled) {
+        this.userBuckets = new StripedTokenBucket(userRate, userBurst, idleMillis, stripes);
+        this.accountBuckets = new StripedTokenBucket(accountRate, accountBurst, idleMillis, stripes);
+        RedissonClient client = clusterEnabled ? redissonClient.getIfAvailable() : null;
+        this.userClusterLimiter = client == null ? null
+                : new ClusterRateLimiter(client, "RL:USER:", userRate, userBurst);
+        this.accountClusterLimiter = client == null ? null
+                : new ClusterRateLimiter(client, "RL:ACCOUNT:", accountRate, accountBurst);
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        Class<?> parameterType = methodParameter.getParameterType();
+        return UserIdInterface.class.isAssignableFrom(parameterType)
+                || AccountLockIdInterface.class.isAssignableFrom(parameterType)
+                || AccountLockIdsInterface.class.isAssignableFrom(parameterType);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        acquireAll(permits(body));
+        return body;
+    }
+
+    private List<Permit> permits(Object body) {
+        List<Permit> permits = new ArrayList<>(3);
+        if (body instanceof UserIdInterface request && request.getUserId() != null) {
+            permits.add(new Permit(userBuckets, userClusterLimiter, request.getUserId()));
+        }
+        if (body instanceof AccountLockIdInterface request && request.getAccountNumber() != null) {
+            permits.add(new Permit(accountBuckets, accountClusterLimiter, accountKey(request.getAccountNumber())));
+        }
+        if (body instanceof AccountLockIdsInterface request && request.getAccountNumbers() != null) {
+            request.getAccountNumbers().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(accountNumber -> permits.add(
+                            new Permit(accountBuckets, accountClusterLimiter, accountKey(accountNumber))));
+        }
+        return permits;
+    }
+
+    // 로컬 한도를 먼저 모두 확인하고, 소비 도중(경합, 공유 한도) 거절되면 이미 얻은 토큰을 되돌린다.
+    private static void acquireAll(List<Permit> permits) {
+        for (Permit permit : permits) {
+            if (!permit.buckets().canAcquire(permit.key())) {
+                throw AccountException.of(ErrorCode.TOO_MANY_REQUESTS);
+            }
+        }
+        int local = 0;
+        int cluster = 0;
+        try {
+            for (; local < permits.size(); local++) {
+                Permit permit = permits.get(local);
+                if (!permit.buckets().tryAcquire(permit.key())) {
+                    throw AccountException.of(ErrorCode.TOO_MANY_REQUESTS);
+                }
+            }
+            for (; cluster < permits.size(); cluster++) {
+                Permit permit = permits.get(cluster);
+                if (permit.clusterLimiter() != null && !tryAcquireCluster(permit.clusterLimiter(), permit.key())) {
+                    throw AccountException.of(ErrorCode.TOO_MANY_REQUESTS);
+                }
+            }
+        } catch (AccountException e) {
+            for (int i = 0; i < local; i++) {
+                permits.get(i).buckets().release(permits.get(i).key());
+            }
+            for (int i = 0; i < cluster; i++) {
+                releaseCluster(permits.get(i).clusterLimiter(), permits.get(i).key());
+            }
+            throw e;
+        }
+    }
+
+    // Redis 장애 시에는 로컬 한도만 적용
+    private static boolean tryAcquireCluster(ClusterRateLimiter clusterLimiter, long key) {
+        try {
+            return clusterLimiter.tryAcquire(key);
+        } catch (Exception e) {
+            log.warn("Cluster rate limit is unavailable. {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private static void releaseCluster(ClusterRateLimiter clusterLimiter, long key) {
+        if (clusterLimiter == null) {
+            return;
+        }
+        try {
+            clusterLimiter.release(key);
+        } catch (Exception e) {
+            log.warn("Failed to release cluster rate limit. {}", e.getMessage());
+        }
+    }
+
+    // 계좌번호는 10자리 숫자이므로 그대로 long 키로 사용 (그 외 형식은 해시)
+    private static long accountKey(String accountNumber) {
+        if (accountNumber.length() <= 18 && !accountNumber.isEmpty() && accountNumber.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(accountNumber);
+        }
+        return accountNumber.hashCode() | (1L << 62);
+    }
+
+    private record Permit(StripedTokenBucket buckets, ClusterRateLimiter clusterLimiter, long key) {
+    }
+}
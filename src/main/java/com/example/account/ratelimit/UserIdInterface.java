@@ -0,0 +1,8 @@
+package com.example.account.ratelimit;
+
+/**
+ * 사용자별 요청 한도를 적용할 요청 (userId)
+ */
+public interface UserIdInterface {
+    Long getUserId();
+}
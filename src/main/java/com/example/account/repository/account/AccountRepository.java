@@ -3,19 +3,22 @@ package com.example.account.repository.account;
 import com.example.account.domain.account.Account;
 import com.example.account.domain.account.AccountUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
-    Optional<Account> findFirstByOrderByIdDesc();
-
-    Integer countByAccountUser(AccountUser accountUser);
-
     Optional<Account> findByAccountNumber(String accountNumber);
 
     List<Account> findByAccountUser(AccountUser accountUser);
+
+    // 이미 사용 중인 계좌번호만 반환
+    @Query("select a.accountNumber from Account a where a.accountNumber in :accountNumbers")
+    List<String> findAccountNumbersIn(@Param("accountNumbers") Collection<String> accountNumbers);
 }
@@ -0,0 +1,13 @@
+package com.example.account.repository.account;
+
+import com.example.account.domain.account.AccountUserImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AccountUserImportCheckpointRepository extends JpaRepository<AccountUserImportCheckpoint, Long> {
+
+    Optional<AccountUserImportCheckpoint> findByImportKey(String importKey);
+}
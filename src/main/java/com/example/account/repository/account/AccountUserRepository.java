@@ -2,10 +2,26 @@ package com.example.account.repository.account;
 
 import com.example.account.domain.account.AccountUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountUserRepository extends JpaRepository<AccountUser, Long> {
 
+    /**
+     * 한도 안에서만 사용 중 계좌 수를 count 만큼 늘린다. (한도 확인과 예약을 한 문장으로)
+     * 같은 사용자에 대한 동시 요청은 행 락으로 순서대로 처리되므로 한도를 넘지 않는다.
+     * @return 1 : 예약 성공, 0 : 한도 초과
+     */
+    @Modifying
+    @Query("update AccountUser u set u.activeAccountCount = u.activeAccountCount + :count " +
+            "where u.id = :userId and u.activeAccountCount + :count <= :max")
+    int increaseActiveAccountCount(@Param("userId") Long userId, @Param("count") int count, @Param("max") int max);
 
+    @Modifying
+    @Query("update AccountUser u set u.activeAccountCount = u.activeAccountCount - 1 " +
+            "where u.id = :userId and u.activeAccountCount > 0")
+    int decreaseActiveAccountCount(@Param("userId") Long userId);
 }
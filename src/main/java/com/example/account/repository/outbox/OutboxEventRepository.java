@@ -0,0 +1,15 @@
+package com.example.account.repository.outbox;
+
+import com.example.account.domain.outbox.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 키셋 페이징 (id > cursor)
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long cursor, Pageable pageable);
+}
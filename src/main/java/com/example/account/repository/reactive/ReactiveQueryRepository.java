@@ -0,0 +1,66 @@
+package com.example.account.repository.reactive;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.domain.converter.TransactionIdConverter;
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.dto.transaction.QueryTransactionResponse;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA 와 같은 스키마를 R2DBC 로 조회하는 읽기 전용 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveQueryRepository {
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Mono<Boolean> existsAccountUser(Long userId) {
+        return reactiveDatabaseClient.sql("select count(*) from account_user where id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    public Flux<AccountInfo> findAccountsByUserId(Long userId) {
+        return reactiveDatabaseClient.sql("select account_number, balance from account " +
+                        "where account_user_id = :userId order by id")
+                .bind("userId", userId)
+                .map(row -> AccountInfo.builder()
+                        .accountNumber(AccountNumberConverter.toAccountNumber(row.get("account_number", Long.class)))
+                        .balance(row.get("balance", Long.class))
+                        .build())
+                .all();
+    }
+
+    public Mono<QueryTransactionResponse> findTransaction(String transactionId) {
+        // BINARY(16) 컬럼과 비교하므로 바이트로 바인딩 (형식이 틀리면 조회 결과 없음)
+        byte[] transactionIdColumn = TransactionIdConverter.toColumn(transactionId);
+        if (transactionIdColumn == null) {
+            return Mono.empty();
+        }
+        return reactiveDatabaseClient.sql("select a.account_number, t.transaction_type, " +
+                        "t.transaction_result_type, t.transaction_id, t.amount, t.transacted_at " +
+                        "from transaction t join account a on a.id = t.account_id " +
+                        "where t.transaction_id = :transactionId")
+                .bind("transactionId", transactionIdColumn)
+                .map(row -> QueryTransactionResponse.builder()
+                        .accountNumber(AccountNumberConverter.toAccountNumber(row.get("account_number", Long.class)))
+                        .transactionType(TransactionType.valueOf(row.get("transaction_type", String.class)))
+                        .transactionResult(TransactionResultType.valueOf(
+                                row.get("transaction_result_type", String.class)))
+                        .transactionId(TransactionIdConverter.toTransactionId(row.get("transaction_id", byte[].class)))
+                        .amount(row.get("amount", Long.class))
+                        .transactedAt(row.get("transacted_at", LocalDateTime.class))
+                        .build())
+                .one();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.account.repository.redis;
+
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+
+/**
+ * Redis 계좌 저널의 거래 한 건
+ * 형식 : 거래종류|결과|거래아이디|금액|거래 후 잔액|거래시각(epoch millis)
+ */
+public record HotBalanceEntry(TransactionType transactionType,
+                              TransactionResultType transactionResultType,
+                              String transactionId,
+                              long amount,
+                              long balanceSnapshot,
+                              long transactedAtMillis) {
+
+    public static HotBalanceEntry parse(String value) {
+        String[] fields = value.split("\\|");
+        return new HotBalanceEntry(
+                TransactionType.valueOf(fields[0]),
+                TransactionResultType.valueOf(fields[1]),
+                fields[2],
+                Long.parseLong(fields[3]),
+                Long.parseLong(fields[4]),
+                Long.parseLong(fields[5]));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.account.repository.redis;
+
+import com.example.account.type.account.AccountStatus;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RList;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 에 있는 계좌 잔액(원본)과 거래 저널
+ * - hot:account:{계좌번호}         : userId, status, balance 해시
+ * - hot:account:{계좌번호}:journal : DB 에 아직 반영되지 않은 거래 (HotBalanceEntry)
+ * - hot:dirty                      : 저널이 남아 있는 계좌번호 집합
+ * 잔액 확인/차감/저널 기록은 Lua 스크립트 한 번으로 원자적으로 처리한다.
+ * (embedded Redis 2.8 에서도 동작하도록 stream 대신 list 를 저널로 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transaction.hot-balance.enabled", havingValue = "true")
+public class HotBalanceRepository {
+    public static final long NOT_LOADED = -1L;
+    public static final long USER_ACCOUNT_UN_MATCH = -2L;
+    public static final long ACCOUNT_ALREADY_UNREGISTERED = -3L;
+    public static final long AMOUNT_EXCEED_BALANCE = -4L;
+
+    private static final String DIRTY_KEY = "hot:dirty";
+
+    // KEYS : 해시, 저널, dirty / ARGV : userId, 금액, 거래아이디, 거래시각, 계좌번호
+    private static final String DEBIT_SCRIPT = """
+            local account = redis.call('HMGET', KEYS[1], 'userId', 'status', 'balance')
+            if not account[1] then
+                return -1
+            end
+            local result = 0
+            if account[1] ~= ARGV[1] then
+                result = -2
+            elseif account[2] ~= 'IN_USE' then
+                result = -3
+            elseif tonumber(account[3]) < tonumber(ARGV[2]) then
+                result = -4
+            end
+            local balance = account[3]
+            local status = 'F'
+            if result == 0 then
+                redis.call('HINCRBY', KEYS[1], 'balance', -tonumber(ARGV[2]))
+                balance = redis.call('HGET', KEYS[1], 'balance')
+                status = 'S'
+            end
+            redis.call('RPUSH', KEYS[2], 'USE|' .. status .. '|' .. ARGV[3] .. '|' .. ARGV[2] .. '|' .. balance .. '|' .. ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[5])
+            if result < 0 then
+                return result
+            end
+            return tonumber(balance)
+            """;
+
+    // KEYS : 해시, 저널, dirty / ARGV : 금액, 거래아이디, 거래시각, 계좌번호
+    private static final String CREDIT_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            redis.call('HINCRBY', KEYS[1], 'balance', ARGV[1])
+            local balance = redis.call('HGET', KEYS[1], 'balance')
+            redis.call('RPUSH', KEYS[2], 'CANCEL|S|' .. ARGV[2] .. '|' .. ARGV[1] .. '|' .. balance .. '|' .. ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            return tonumber(balance)
+            """;
+
+    // 없을 때만 적재 (이미 있으면 Redis 쪽이 원본)
+    private static final String LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HMSET', KEYS[1], 'userId', ARGV[1], 'status', ARGV[2], 'balance', ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    // 저널이 비어 있을 때만 DB 값으로 덮어쓴다.
+    private static final String REBUILD_SCRIPT = """
+            if redis.call('LLEN', KEYS[2]) == 0 then
+                redis.call('HMSET', KEYS[1], 'userId', ARGV[1], 'status', ARGV[2], 'balance', ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    // 적재된 계좌의 상태만 맞춘다. (잔액은 Redis 가 원본이므로 DB 값으로 다시 적재하지 않는다.)
+    private static final String UPDATE_STATUS_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('HSET', KEYS[1], 'status', ARGV[1])
+                return 1
+            end
+            return 0
+            """;
+
+    private static final String CLEAR_DIRTY_IF_EMPTY_SCRIPT = """
+            if redis.call('LLEN', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[2], ARGV[1])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 잔액 차감
+     * 성공하면 차감 후 잔액, 실패하면 음수 코드 (NOT_LOADED 외의 실패는 실패 거래로 저널에 남는다)
+     */
+    public long debit(Long userId, String accountNumber, Long amount, String transactionId, long transactedAtMillis) {
+        return eval(DEBIT_SCRIPT,
+                Arrays.asList(accountKey(accountNumber), journalKey(accountNumber), DIRTY_KEY),
+                userId, amount, transactionId, transactedAtMillis, accountNumber);
+    }
+
+    /**
+     * 잔액 복구 (거래 취소)
+     * 성공하면 복구 후 잔액, 적재되지 않은 계좌면 NOT_LOADED
+     */
+    public long credit(String accountNumber, Long amount, String transactionId, long transactedAtMillis) {
+        return eval(CREDIT_SCRIPT,
+                Arrays.asList(accountKey(accountNumber), journalKey(accountNumber), DIRTY_KEY),
+                amount, transactionId, transactedAtMillis, accountNumber);
+    }
+
+    public boolean loadIfAbsent(String accountNumber, Long userId, AccountStatus status, Long balance) {
+        return eval(LOAD_SCRIPT, List.of(accountKey(accountNumber)),
+                userId, status.name(), balance) == 1L;
+    }
+
+    public boolean rebuild(String accountNumber, Long userId, AccountStatus status, Long balance) {
+        return eval(REBUILD_SCRIPT, Arrays.asList(accountKey(accountNumber), journalKey(accountNumber)),
+                userId, status.name(), balance) == 1L;
+    }
+
+    /**
+     * 적재된 계좌의 상태(해지 등)를 DB 값으로 바꾼다.
+     * 반영이 끝난 계좌를 내리면, 반영 전에 DB 를 읽은 요청이 loadIfAbsent 로 이전(더 큰) 잔액을 다시 적재할 수 있으므로
+     * 한 번 적재한 계좌는 내리지 않는다.
+     */
+    public boolean updateStatus(String accountNumber, AccountStatus status) {
+        return eval(UPDATE_STATUS_SCRIPT, List.of(accountKey(accountNumber)), status.name()) == 1L;
+    }
+
+    public Set<String> findDirtyAccountNumbers() {
+        return redissonClient.<String>getSet(DIRTY_KEY, StringCodec.INSTANCE).readAll();
+    }
+
+    public List<HotBalanceEntry> peekJournal(String accountNumber, int maxCount) {
+        RList<String> journal = redissonClient.getList(journalKey(accountNumber), StringCodec.INSTANCE);
+        List<HotBalanceEntry> entries = new ArrayList<>();
+        for (String value : journal.range(0, maxCount - 1)) {
+            entries.add(HotBalanceEntry.parse(value));
+        }
+        return entries;
+    }
+
+    // DB 에 반영한 앞쪽 count 건 제거
+    public void trimJournal(String accountNumber, int count) {
+        redissonClient.getList(journalKey(accountNumber), StringCodec.INSTANCE).trim(count, -1);
+    }
+
+    public void clearDirtyIfEmpty(String accountNumber) {
+        eval(CLEAR_DIRTY_IF_EMPTY_SCRIPT, Arrays.asList(journalKey(accountNumber), DIRTY_KEY), accountNumber);
+    }
+
+    private long eval(String script, List<String> keys, Object... args) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE)
+                .eval(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER, new ArrayList<>(keys), args);
+        return result;
+    }
+
+    private static String accountKey(String accountNumber) {
+        return "hot:account:" + accountNumber;
+    }
+
+    private static String journalKey(String accountNumber) {
+        return "hot:account:" + accountNumber + ":journal";
+    }
+}
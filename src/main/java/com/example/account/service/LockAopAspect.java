@@ -1,6 +1,13 @@
 package com.example.account.service;
 
 import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.aop.AccountLockIdsInterface;
+import com.example.account.exception.account.AccountException;
+import com.example.account.jfr.LockAcquiredEvent;
+import com.example.account.jfr.LockHoldEvent;
+import com.example.account.jfr.LockWaitEvent;
+import com.example.account.timing.RequestTimings;
+import com.example.account.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -8,23 +15,72 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Aspect
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class LockAopAspect {
     private final LockService lockService;
+    private final LockMetrics lockMetrics;
 
     @Around("@annotation(com.example.account.aop.AccountLock) && args(request)")
     public Object aroundMethod(ProceedingJoinPoint pjp, AccountLockIdInterface request) throws Throwable {
+        String accountNumber = request.getAccountNumber();
+        return proceedWithLock(pjp, accountNumber,
+                () -> lockService.lock(accountNumber),
+                () -> lockService.unlock(accountNumber));
+    }
+
+    // 여러 계좌 잠금 (계좌번호 순서로 한 번에)
+    @Around("@annotation(com.example.account.aop.AccountLock) && args(request)")
+    public Object aroundMultiMethod(ProceedingJoinPoint pjp, AccountLockIdsInterface request) throws Throwable {
+        List<String> accountNumbers = request.getAccountNumbers();
+        return proceedWithLock(pjp, String.join(",", accountNumbers),
+                () -> lockService.lockAll(accountNumbers),
+                () -> lockService.unlockAll(accountNumbers));
+    }
+
+    private Object proceedWithLock(ProceedingJoinPoint pjp, String accountNumber,
+                                   Runnable lock, Runnable unlock) throws Throwable {
         // lock 취득 시도
-        lockService.lock(request.getAccountNumber());
+        LockWaitEvent waitEvent = new LockWaitEvent();
+        waitEvent.begin();
+        long waitStart = System.nanoTime();
+        try {
+            lock.run();
+        } catch (AccountException e) {
+            waitEvent.finish(accountNumber, e.getErrorCode());
+            throw e;
+        } finally {
+            RequestTimings.addLockWait(System.nanoTime() - waitStart);
+        }
+        waitEvent.finish(accountNumber, null);
+        LockAcquiredEvent acquiredEvent = new LockAcquiredEvent();
+        acquiredEvent.begin();
+        acquiredEvent.finish(accountNumber, null);
+
+        LockHoldEvent holdEvent = new LockHoldEvent();
+        holdEvent.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        ErrorCode errorCode = null;
         try {
             // before
-            return pjp.proceed();
+            Object result = pjp.proceed();
+            success = true;
+            return result;
+        } catch (AccountException e) {
+            errorCode = e.getErrorCode();
+            throw e;
         } finally {
             // lock 해제
-            lockService.unlock(request.getAccountNumber());
+            unlock.run();
+            long holdNanos = System.nanoTime() - start;
+            lockMetrics.recordHold(holdNanos, success);
+            RequestTimings.addLockHold(holdNanos);
+            holdEvent.finish(accountNumber, errorCode);
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.example.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 락 메트릭
+ * 1. account.lock.wait : 락 대기 시간 (outcome = acquired / rejected / error)
+ * 2. account.lock.hold : 락 보유 시간 (outcome = success / failure)
+ * 3. account.lock.rejections : ACCOUNT_TRANSACTION_LOCK 발생 횟수
+ */
+@Component
+public class LockMetrics {
+    private final Timer waitAcquired;
+    private final Timer waitRejected;
+    private final Timer waitError;
+    private final Timer holdSuccess;
+    private final Timer holdFailure;
+    private final Counter rejections;
+
+    public LockMetrics(MeterRegistry meterRegistry) {
+        waitAcquired = lockTimer(meterRegistry, "account.lock.wait", "acquired");
+        waitRejected = lockTimer(meterRegistry, "account.lock.wait", "rejected");
+        waitError = lockTimer(meterRegistry, "account.lock.wait", "error");
+        holdSuccess = lockTimer(meterRegistry, "account.lock.hold", "success");
+        holdFailure = lockTimer(meterRegistry, "account.lock.hold", "failure");
+        rejections = Counter.builder("account.lock.rejections")
+                .description("ACCOUNT_TRANSACTION_LOCK rejections")
+                .register(meterRegistry);
+    }
+
+    public void recordAcquired(long waitNanos) {
+        waitAcquired.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(long waitNanos) {
+        waitRejected.record(waitNanos, TimeUnit.NANOSECONDS);
+        rejections.increment();
+    }
+
+    public void recordError(long waitNanos) {
+        waitError.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHold(long holdNanos, boolean success) {
+        (success ? holdSuccess : holdFailure).record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer lockTimer(MeterRegistry meterRegistry, String name, String outcome) {
+        return Timer.builder(name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -6,29 +6,61 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 계좌 단위 분산 락 (Redis)
+ * spring.threads.virtual.enabled=true 인 경우 가상 스레드에서 락을 대기하므로
+ * 락 경로에는 synchronized 블록을 두지 않는다. (carrier thread pinning 방지)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LockService {
     private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
+
+    // 락 대기 시간 (넘으면 ACCOUNT_TRANSACTION_LOCK)
+    @Value("${lock.wait-ms:1000}")
+    private long waitMillis = 1000L;
 
     public void lock(String accountNumber) {
-        RLock lock = redissonClient.getLock(getLockKey(accountNumber));
         log.debug("Trying lock for accountNumber : {}", accountNumber);
+        acquire(redissonClient.getLock(getLockKey(accountNumber)));
+    }
+
+    /**
+     * 여러 계좌를 한 번에 잠금 (이체)
+     * 항상 계좌번호 순서로 잡으므로 A->B, B->A 이체가 동시에 들어와도 교착 상태가 생기지 않는다.
+     */
+    public void lockAll(Collection<String> accountNumbers) {
+        log.debug("Trying lock for accountNumbers : {}", accountNumbers);
+        acquire(getMultiLock(accountNumbers));
+    }
 
+    public void unlockAll(Collection<String> accountNumbers) {
+        log.debug("Unlock for accountNumbers : {}", accountNumbers);
+        getMultiLock(accountNumbers).unlock();
+    }
+
+    private void acquire(RLock lock) {
+        long start = System.nanoTime();
         try {
-            boolean isLock = lock.tryLock(1, 15, TimeUnit.SECONDS);
+            boolean isLock = lock.tryLock(waitMillis, 15_000L, TimeUnit.MILLISECONDS);
             if (!isLock) {
+                lockMetrics.recordRejected(System.nanoTime() - start);
                 log.error("========== Lock acquisition failed ==========");
-                throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                throw AccountException.of(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
             }
+            lockMetrics.recordAcquired(System.nanoTime() - start);
         } catch (AccountException e) {
             throw e;
         } catch (Exception e) {
+            lockMetrics.recordError(System.nanoTime() - start);
             log.error("Redis lock failed", e);
         }
     }
@@ -39,6 +71,14 @@ public class LockService {
         ;
     }
 
+    private RLock getMultiLock(Collection<String> accountNumbers) {
+        return redissonClient.getMultiLock(accountNumbers.stream()
+                .distinct()
+                .sorted()
+                .map(accountNumber -> redissonClient.getLock(getLockKey(accountNumber)))
+                .toArray(RLock[]::new));
+    }
+
     private static String getLockKey(String accountNumber) {
         return "ACLK:" + accountNumber;
     }
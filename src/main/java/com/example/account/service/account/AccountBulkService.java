@@ -0,0 +1,188 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.account.AccountUser;
+import com.example.account.dto.account.AccountDto;
+import com.example.account.dto.account.BulkCreateAccount;
+import com.example.account.dto.account.CreateAccount;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.account.AccountStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 일괄 생성 (파트너 온보딩)
+ * 요청을 chunk-size 건씩 나눠 chunk 마다 한 트랜잭션으로 처리한다.
+ * 1. 사용자를 chunk 단위로 한 번에 조회하고, 보유 계좌 수는 사용자별 조건부 update 한 번으로 예약
+ * 2. 계좌번호는 AccountNumberAllocator 구간에서 받고, 사용 중인 번호는 한 번의 쿼리로 걸러낸다.
+ * 3. saveAllAndFlush 로 배치 insert (hibernate.jdbc.batch_size)
+ *    확인 이후 단건 생성이 같은 번호를 먼저 저장하면 유니크 인덱스 위반으로 chunk 가 롤백되므로 새 번호로 다시 처리한다.
+ * chunk 가 커밋될 때마다 요청 순서대로 항목별 결과를 넘기므로 클라이언트는 진행 상황을 바로 받는다.
+ */
+@Slf4j
+@Service
+public class AccountBulkService {
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public AccountBulkService(AccountRepository accountRepository,
+                              AccountUserRepository accountUserRepository,
+                              AccountNumberAllocator accountNumberAllocator,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${account.bulk.chunk-size:500}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.accountUserRepository = accountUserRepository;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param chunkResultConsumer chunk 커밋 이후 해당 chunk 의 결과 (요청 순서)
+     * @return 생성된 계좌 수
+     */
+    public int createAccounts(List<CreateAccount.Request> requests,
+                              Consumer<List<BulkCreateAccount.Result>> chunkResultConsumer) {
+        int created = 0;
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int offset = from;
+            List<CreateAccount.Request> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            List<BulkCreateAccount.Result> results;
+            try {
+                results = createChunkWithRetry(chunk, offset);
+            } catch (Exception e) {
+                log.error("Failed to create account chunk. offset={}, size={}", offset, chunk.size(), e);
+                results = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(BulkCreateAccount.Result.fail(offset + i, chunk.get(i).getUserId(),
+                            ErrorCode.INTERNAL_SERVER_ERROR));
+                }
+            }
+            created += (int) results.stream().filter(result -> result.getErrorCode() == null).count();
+            chunkResultConsumer.accept(results);
+        }
+        return created;
+    }
+
+    // 계좌번호 충돌(유니크 인덱스 위반)이면 롤백된 chunk 를 새 번호로 다시 처리 (예약도 함께 롤백됨)
+    private List<BulkCreateAccount.Result> createChunkWithRetry(List<CreateAccount.Request> chunk, int offset) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> createChunk(chunk, offset));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Account number conflict, retrying chunk. offset={}, attempt={}", offset, attempt);
+            }
+        }
+    }
+
+    private List<BulkCreateAccount.Result> createChunk(List<CreateAccount.Request> chunk, int offset) {
+        Set<Long> userIds = chunk.stream().map(CreateAccount.Request::getUserId).collect(Collectors.toSet());
+        Map<Long, AccountUser> accountUsers = accountUserRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(AccountUser::getId, Function.identity()));
+
+        // 검증을 먼저 끝내 사용자별로 예약할 계좌 수와 필요한 계좌번호 수를 구한다.
+        Map<Long, Integer> reservations = new HashMap<>();
+        BulkCreateAccount.Result[] results = new BulkCreateAccount.Result[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Long userId = chunk.get(i).getUserId();
+            AccountUser accountUser = accountUsers.get(userId);
+            if (accountUser == null) {
+                results[i] = BulkCreateAccount.Result.fail(offset + i, userId, ErrorCode.USER_NOT_FOUND);
+                continue;
+            }
+            int reserved = reservations.getOrDefault(userId, 0);
+            if (accountUser.getActiveAccountCount() + reserved >= AccountService.MAX_ACCOUNT_PER_USER) {
+                results[i] = BulkCreateAccount.Result.fail(offset + i, userId, ErrorCode.MAX_ACCOUNT_PER_USER_10);
+                continue;
+            }
+            reservations.put(userId, reserved + 1);
+        }
+
+        // 사용자별 조건부 update 한 번으로 예약, 그 사이 다른 요청이 계좌를 만들어 한도를 넘으면 해당 사용자 항목은 모두 실패
+        for (Map.Entry<Long, Integer> reservation : reservations.entrySet()) {
+            if (accountUserRepository.increaseActiveAccountCount(reservation.getKey(), reservation.getValue(),
+                    AccountService.MAX_ACCOUNT_PER_USER) == 0) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (results[i] == null && chunk.get(i).getUserId().equals(reservation.getKey())) {
+                        results[i] = BulkCreateAccount.Result.fail(offset + i, reservation.getKey(),
+                                ErrorCode.MAX_ACCOUNT_PER_USER_10);
+                    }
+                }
+            }
+        }
+        List<Integer> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (results[i] == null) {
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        Iterator<String> accountNumbers = allocateUnusedAccountNumbers(accepted.size()).iterator();
+        LocalDateTime now = LocalDateTime.now();
+        List<Account> accounts = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            CreateAccount.Request request = chunk.get(i);
+            accounts.add(Account.builder()
+                    .accountUser(accountUsers.get(request.getUserId()))
+                    .accountStatus(AccountStatus.IN_USE)
+                    .accountNumber(accountNumbers.next())
+                    .balance(request.getInitialBalance())
+                    .registeredAt(now)
+                    .build());
+        }
+
+        List<Account> saved = accountRepository.saveAllAndFlush(accounts);
+        for (int k = 0; k < saved.size(); k++) {
+            Account account = saved.get(k);
+            int i = accepted.get(k);
+            results[i] = BulkCreateAccount.Result.success(offset + i, AccountDto.fromEntity(account));
+            applicationEventPublisher.publishEvent(new AccountChangedEvent(
+                    account.getAccountUser().getId(), account.getId(), account.getAccountNumber(),
+                    account.getAccountStatus()));
+        }
+        return Arrays.asList(results);
+    }
+
+    // 발급받은 번호 중 이미 사용 중인 번호(단건 생성의 무작위 번호)는 빼고 모자란 만큼 다시 받는다.
+    private List<String> allocateUnusedAccountNumbers(int count) {
+        List<String> accountNumbers = new ArrayList<>(count);
+        while (accountNumbers.size() < count) {
+            List<String> candidates = accountNumberAllocator.allocate(count - accountNumbers.size());
+            Set<String> used = new HashSet<>(accountRepository.findAccountNumbersIn(candidates));
+            for (String candidate : candidates) {
+                if (!used.contains(candidate)) {
+                    accountNumbers.add(candidate);
+                }
+            }
+        }
+        return accountNumbers;
+    }
+}
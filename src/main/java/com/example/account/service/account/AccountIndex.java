@@ -0,0 +1,115 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.util.ConcurrentLongLongMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+
+/**
+ * 계좌번호 -> (계좌 id, 소유자 id, 상태) 인덱스
+ * 10자리 계좌번호를 long 키로, 세 값을 long 하나로 묶어 ConcurrentLongLongMap 에 저장한다. (박싱/객체 없음)
+ * 기동 시 DB 에서 한 번 적재하고, 계좌 생성/해지 커밋 이후(AccountChangedEvent) 갱신한다.
+ * DB 를 대신하는 원본이 아니라 조회를 줄이기 위한 사본이므로 없으면(MISSING) DB 로 확인한다.
+ * 소유자는 바뀌지 않고 상태는 IN_USE -> UNREGISTERED 로만 바뀌므로
+ * 인덱스가 늦게 반영되어도 "해지되지 않은 계좌를 해지로" 보는 경우는 없다. (반대는 엔티티 검증에서 걸러진다.)
+ *
+ * 값 배치 (부호 비트 0) : [62..32] 계좌 id (31 bit) | [31..2] 소유자 id (30 bit) | [1..0] 상태 (ordinal + 1)
+ */
+@Slf4j
+@Component
+public class AccountIndex {
+    public static final long MISSING = 0L;
+
+    private static final long MAX_ACCOUNT_ID = (1L << 31) - 1;
+    private static final long MAX_USER_ID = (1L << 30) - 1;
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private final ConcurrentLongLongMap index;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public AccountIndex(DataSource dataSource,
+                        @Value("${account.index.enabled:true}") boolean enabled,
+                        @Value("${account.index.expected-size:1024}") int expectedSize,
+                        @Value("${account.index.fetch-size:10000}") int fetchSize) {
+        this.index = new ConcurrentLongLongMap(expectedSize);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        // account_number 는 BIGINT 컬럼이므로 문자열로 바꾸지 않고 바로 키로 사용
+        RowCallbackHandler rowHandler = rs -> put(rs.getLong("account_number") + 1, rs.getLong("id"),
+                rs.getLong("account_user_id"), AccountStatus.valueOf(rs.getString("account_status")));
+        jdbcTemplate.query("select id, account_number, account_user_id, account_status from account", rowHandler);
+        log.info("Loaded {} accounts into account index in {} ms", index.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (enabled && event.getAccountId() != null && event.getUserId() != null && event.getAccountStatus() != null) {
+            put(event.getAccountNumber(), event.getAccountId(), event.getUserId(), event.getAccountStatus());
+        }
+    }
+
+    // 없으면 MISSING
+    public long find(String accountNumber) {
+        long key = key(accountNumber);
+        return key == MISSING ? MISSING : index.get(key, MISSING);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    void put(String accountNumber, long accountId, long userId, AccountStatus status) {
+        put(key(accountNumber), accountId, userId, status);
+    }
+
+    private void put(long key, long accountId, long userId, AccountStatus status) {
+        // 배치에 들어가지 않는 값은 인덱스에 넣지 않는다. (DB 로 확인)
+        if (key == MISSING || accountId < 0 || accountId > MAX_ACCOUNT_ID || userId < 0 || userId > MAX_USER_ID) {
+            return;
+        }
+        index.put(key, pack(accountId, userId, status));
+    }
+
+    public static long pack(long accountId, long userId, AccountStatus status) {
+        return accountId << 32 | userId << 2 | (status.ordinal() + 1);
+    }
+
+    public static long accountId(long entry) {
+        return entry >>> 32;
+    }
+
+    public static long userId(long entry) {
+        return (entry >>> 2) & MAX_USER_ID;
+    }
+
+    public static AccountStatus status(long entry) {
+        return STATUSES[(int) (entry & 3) - 1];
+    }
+
+    // 10자리 숫자만 키로 사용 (0 은 빈 슬롯 표시이므로 +1)
+    static long key(String accountNumber) {
+        Long column = AccountNumberConverter.toColumn(accountNumber);
+        return column == null ? MISSING : column + 1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.account.service.account;
+
+import com.example.account.dto.account.AccountDto;
+import com.example.account.event.AccountChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 계좌 목록 조회 병합 (single-flight)
+ * 1. 같은 사용자에 대한 동시 조회는 하나의 DB 조회 결과를 공유한다.
+ * 2. account.query.cache-ttl-ms > 0 이면 결과를 잠시 캐시한다.
+ * 3. 계좌 변경(AccountChangedEvent) 커밋 이후 해당 사용자의 결과를 무효화한다.
+ * 메트릭 : account.query.coalesce (result = leader / follower / cache_hit)
+ */
+@Service
+public class AccountQueryCoalescer {
+    // 사용자별 무효화 세대 (메모리 고정을 위해 스트라이프로 관리)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final AccountService accountService;
+    private final long cacheTtlMillis;
+    private final ConcurrentHashMap<Long, CompletableFuture<List<AccountDto>>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CachedAccounts> cache = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter cacheHits;
+
+    public AccountQueryCoalescer(AccountService accountService,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${account.query.cache-ttl-ms:0}") long cacheTtlMillis) {
+        this.accountService = accountService;
+        this.cacheTtlMillis = cacheTtlMillis;
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.leaders = registry.counter("account.query.coalesce", "result", "leader");
+        this.followers = registry.counter("account.query.coalesce", "result", "follower");
+        this.cacheHits = registry.counter("account.query.coalesce", "result", "cache_hit");
+    }
+
+    public List<AccountDto> getAccountsByUserId(Long userId) {
+        if (cacheTtlMillis > 0) {
+            CachedAccounts cached = cache.get(userId);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                cacheHits.increment();
+                return cached.accounts;
+            }
+        }
+
+        CompletableFuture<List<AccountDto>> load = new CompletableFuture<>();
+        CompletableFuture<List<AccountDto>> existing = inFlight.putIfAbsent(userId, load);
+        if (existing != null) {
+            followers.increment();
+            return join(existing);
+        }
+
+        leaders.increment();
+        long generation = generation(userId);
+        try {
+            List<AccountDto> accounts = List.copyOf(accountService.getAccountsByUserId(userId));
+            if (cacheTtlMillis > 0) {
+                // 조회 도중 무효화된 경우에는 캐시하지 않는다.
+                // 세대 확인과 저장을 같은 키 잠금 안에서 하므로, 그 사이 무효화가 끼어들어도
+                // invalidate 의 cache.remove 가 이 저장 이후에 실행된다.
+                CachedAccounts loaded = new CachedAccounts(accounts, System.currentTimeMillis() + cacheTtlMillis);
+                cache.compute(userId, (key, previous) -> generation == generation(userId) ? loaded : previous);
+            }
+            load.complete(accounts);
+            return accounts;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, load);
+        }
+    }
+
+    // 버전(ETag) 증가보다 먼저 무효화
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void invalidate(AccountChangedEvent event) {
+        Long userId = event.getUserId();
+        // 세대를 먼저 올린 뒤 지운다. (순서가 바뀌면 조회 중인 결과가 다시 캐시될 수 있음)
+        generations.incrementAndGet(stripe(userId));
+        cache.remove(userId);
+        inFlight.remove(userId);
+    }
+
+    private long generation(Long userId) {
+        return generations.get(stripe(userId));
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (GENERATION_STRIPES - 1));
+    }
+
+    private static List<AccountDto> join(CompletableFuture<List<AccountDto>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedAccounts(List<AccountDto> accounts, long expiresAt) {
+    }
+}
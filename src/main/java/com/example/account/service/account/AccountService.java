@@ -3,14 +3,16 @@ package com.example.account.service.account;
 import com.example.account.domain.account.Account;
 import com.example.account.domain.account.AccountUser;
 import com.example.account.dto.account.AccountDto;
+import com.example.account.event.AccountChangedEvent;
 import com.example.account.exception.account.AccountException;
 import com.example.account.repository.account.AccountRepository;
 import com.example.account.repository.account.AccountUserRepository;
 import com.example.account.type.account.AccountStatus;
 import com.example.account.type.ErrorCode;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,12 +23,16 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class AccountService {
+    public static final int MAX_ACCOUNT_PER_USER = 10;
 
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AccountIndex accountIndex;
 
     /**
      * 사용자 존재 체크
+     * 보유 계좌 수 예약 (한도 초과 시 실패)
      * 계좌 번호 생성
      * 계좌 저장 -> 정보 넘김
      */
@@ -34,28 +40,27 @@ public class AccountService {
     public AccountDto createdAccount(Long userId, Long initialBalance) {
         AccountUser accountUser = getAccountUser(userId);
 
-        validateCreateAccount(accountUser);
-
-        String newAccountNumber = accountRepository.findFirstByOrderByIdDesc()
-                .map(account -> (Integer.parseInt(account.getAccountNumber())) + 1 + "")
-                .orElse("1000000000");
+        reserveAccountSlot(accountUser);
 
         /////////////////////////////////////// 계좌번호 무작위 메서드 적용 ///////////////////////////////////////
         String newAccountNumberV2 = checkAccountNumber(createAccountNumber(userId));
 
-        return AccountDto.fromEntity(
-                accountRepository.save(Account.builder()
-                        .accountUser(accountUser)
-                        .accountStatus(AccountStatus.IN_USE)
-                        .accountNumber(newAccountNumberV2)
-                        .balance(initialBalance)
-                        .registeredAt(LocalDateTime.now())
-                        .build())
-        );
+        Account account = accountRepository.save(Account.builder()
+                .accountUser(accountUser)
+                .accountStatus(AccountStatus.IN_USE)
+                .accountNumber(newAccountNumberV2)
+                .balance(initialBalance)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        applicationEventPublisher.publishEvent(
+                new AccountChangedEvent(userId, account.getId(), account.getAccountNumber(),
+                        account.getAccountStatus()));
+
+        return AccountDto.fromEntity(account);
     }
 
-    // 계좌중복 체크 메서드
-    private String checkAccountNumber(String accountNumber) {
+    // 계좌중복 체크 메서드 (벤치마크에서 사용하므로 package-private)
+    String checkAccountNumber(String accountNumber) {
         String result = "";
         // 중복이 없을 때 까지 반복을 돌린다.
         int count = 0;
@@ -78,8 +83,8 @@ public class AccountService {
         return result;
     }
 
-    // 계좌 무작위 번호 생성 메서드
-    private static String createAccountNumber(Long id) {
+    // 계좌 무작위 번호 생성 메서드 (벤치마크에서 사용하므로 package-private)
+    static String createAccountNumber(Long id) {
         StringBuilder sb = new StringBuilder();
         int[] nums = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
         int tmp = 0;
@@ -99,14 +104,14 @@ public class AccountService {
         return (id % 10) + sb.toString();
     }
 
-    // 보유 계좌 갯수 체크
-    private void validateCreateAccount(AccountUser accountUser) {
-        if (accountRepository.countByAccountUser(accountUser) >= 10) {
-            throw new AccountException(ErrorCode.MAX_ACCOUNT_PER_USER_10);
+    // 보유 계좌 갯수 체크 + 예약 (조건부 update 한 번, 실패 시 트랜잭션 롤백으로 예약도 취소)
+    private void reserveAccountSlot(AccountUser accountUser) {
+        if (accountUserRepository.increaseActiveAccountCount(accountUser.getId(), 1, MAX_ACCOUNT_PER_USER) == 0) {
+            throw AccountException.of(ErrorCode.MAX_ACCOUNT_PER_USER_10);
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Account getAccount(Long id) {
         if (id < 0) {
             throw new RuntimeException("Minus");
@@ -116,33 +121,48 @@ public class AccountService {
 
     @Transactional
     public AccountDto deleteAccount(Long userId, String accountNumber) {
-        AccountUser accountUser = getAccountUser(userId);
+        Long verifiedUserId = verifyUser(userId, accountNumber);
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+                .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        validateDeleteAccount(accountUser, account);
+        validateDeleteAccount(verifiedUserId, account);
 
         account.setAccountStatus(AccountStatus.UNREGISTERED);
         account.setUnRegisteredAt(LocalDateTime.now());
 
         accountRepository.save(account);
+        accountUserRepository.decreaseActiveAccountCount(verifiedUserId);
+        applicationEventPublisher.publishEvent(new AccountChangedEvent(userId, account.getId(), accountNumber,
+                account.getAccountStatus()));
 
         return AccountDto.fromEntity(account);
     }
 
-    private void validateDeleteAccount(AccountUser accountUser, Account account) {
-        if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
-            throw new AccountException(ErrorCode.USER_ACCOUNT_UN_MATCH);
+    // 계좌 인덱스로 소유자가 확인되면 사용자 조회를 건너뛰고, 이미 해지된 계좌는 조회 없이 거절
+    private Long verifyUser(Long userId, String accountNumber) {
+        long entry = accountIndex.find(accountNumber);
+        if (entry == AccountIndex.MISSING || AccountIndex.userId(entry) != userId) {
+            return getAccountUser(userId).getId();
+        }
+        if (AccountIndex.status(entry) == AccountStatus.UNREGISTERED) {
+            throw AccountException.of(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+        return userId;
+    }
+
+    private void validateDeleteAccount(Long userId, Account account) {
+        if (!Objects.equals(userId, account.getAccountUser().getId())) {
+            throw AccountException.of(ErrorCode.USER_ACCOUNT_UN_MATCH);
         }
         if (account.getAccountStatus() == AccountStatus.UNREGISTERED) {
-            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+            throw AccountException.of(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
         }
         if (account.getBalance() > 0) {
-            throw new AccountException(ErrorCode.BALANCE_NOT_EMPTY);
+            throw AccountException.of(ErrorCode.BALANCE_NOT_EMPTY);
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AccountDto> getAccountsByUserId(Long userId) {
         AccountUser accountUser = getAccountUser(userId);
 
@@ -155,7 +175,7 @@ public class AccountService {
 
     private AccountUser getAccountUser(Long userId) {
         AccountUser accountUser = accountUserRepository.findById(userId)
-                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> AccountException.of(ErrorCode.USER_NOT_FOUND));
         return accountUser;
     }
 
@@ -0,0 +1,233 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.account.AccountUserImportCheckpoint;
+import com.example.account.dto.account.ImportAccountUser;
+import com.example.account.repository.account.AccountUserImportCheckpointRepository;
+import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.type.account.ImportFormat;
+import com.example.account.util.BoundedLineReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * AccountUser 대량 가져오기 (CSV / NDJSON)
+ * 입력을 고정 크기 버퍼로 한 줄씩 읽어 검증하고, chunk-size 줄마다 한 트랜잭션으로 saveAll 한다.
+ * (id 는 시퀀스 pooled 할당, insert 는 hibernate.jdbc.batch_size 로 배치)
+ * 메모리에는 한 chunk 만 올라가므로 입력 크기와 관계없이 사용량이 일정하다.
+ * 저장 실패 시 그 chunk 만 롤백하고 멈추며, 마지막 진행 상황의 committedLine 부터 다시 시작할 수 있다.
+ * checkpointKey 를 주면 committedLine 을 chunk 와 같은 트랜잭션에서 DB 에 기록한다. (CLI 재시작 시 이어서 가져오기)
+ */
+@Slf4j
+@Service
+public class AccountUserImportService {
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final AccountUserRepository accountUserRepository;
+    private final AccountUserImportCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int bufferSize;
+    private final int maxLineLength;
+
+    public AccountUserImportService(AccountUserRepository accountUserRepository,
+                                    AccountUserImportCheckpointRepository checkpointRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${account-user.import.chunk-size:1000}") int chunkSize,
+                                    @Value("${account-user.import.buffer-size:65536}") int bufferSize,
+                                    @Value("${account-user.import.max-line-length:1024}") int maxLineLength) {
+        this.accountUserRepository = accountUserRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.bufferSize = bufferSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * @param startLine        이 줄까지는 건너뜀 (이전 진행 상황의 committedLine)
+     * @param progressConsumer chunk 커밋/실패마다 진행 상황
+     * @return 마지막 진행 상황 (실패 시 error 포함)
+     */
+    public ImportAccountUser.Progress importUsers(InputStream inputStream, ImportFormat format, long startLine,
+                                                  Consumer<ImportAccountUser.Progress> progressConsumer)
+            throws IOException {
+        return importUsers(inputStream, format, startLine, null, progressConsumer);
+    }
+
+    /**
+     * @param checkpointKey 진행 위치를 chunk 와 함께 저장할 키 (null 이면 저장하지 않음)
+     */
+    public ImportAccountUser.Progress importUsers(InputStream inputStream, ImportFormat format, long startLine,
+                                                  String checkpointKey,
+                                                  Consumer<ImportAccountUser.Progress> progressConsumer)
+            throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8), bufferSize, maxLineLength);
+        List<AccountUser> users = new ArrayList<>(chunkSize);
+        List<ImportAccountUser.Rejection> rejections = new ArrayList<>();
+        long lineNumber = 0;
+        long committedLine = startLine;
+        long imported = 0;
+        long rejected = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber <= startLine) {
+                continue;
+            }
+            String reason = reader.isTruncated() ? "line too long" : null;
+            if (reason == null && !line.isBlank() && !(lineNumber == 1 && isCsvHeader(format, line))) {
+                String name = parseName(format, line);
+                reason = validateName(name);
+                if (reason == null) {
+                    users.add(AccountUser.builder().name(name.strip()).build());
+                }
+            }
+            if (reason != null) {
+                rejections.add(new ImportAccountUser.Rejection(lineNumber, reason));
+                rejected++;
+            }
+
+            if (lineNumber - committedLine >= chunkSize) {
+                ImportAccountUser.Progress progress = commit(checkpointKey, users, rejections, lineNumber,
+                        committedLine, imported, rejected);
+                progressConsumer.accept(progress);
+                if (progress.getError() != null) {
+                    return progress;
+                }
+                committedLine = lineNumber;
+                imported = progress.getImported();
+                users.clear();
+                rejections.clear();
+            }
+        }
+
+        ImportAccountUser.Progress progress = commit(checkpointKey, users, rejections, lineNumber, committedLine,
+                imported, rejected);
+        progress.setDone(progress.getError() == null);
+        progressConsumer.accept(progress);
+        return progress;
+    }
+
+    // 진행 위치 (없으면 0)
+    public long findCommittedLine(String checkpointKey) {
+        return checkpointRepository.findByImportKey(checkpointKey)
+                .map(AccountUserImportCheckpoint::getCommittedLine)
+                .orElse(0L);
+    }
+
+    public void deleteCheckpoint(String checkpointKey) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findByImportKey(checkpointKey)
+                .ifPresent(checkpointRepository::delete));
+    }
+
+    private ImportAccountUser.Progress commit(String checkpointKey, List<AccountUser> users,
+                                              List<ImportAccountUser.Rejection> rejections,
+                                              long lineNumber, long committedLine, long imported, long rejected) {
+        try {
+            if (!users.isEmpty() || checkpointKey != null) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!users.isEmpty()) {
+                        accountUserRepository.saveAll(users);
+                    }
+                    if (checkpointKey != null) {
+                        saveCheckpoint(checkpointKey, Math.max(lineNumber, committedLine));
+                    }
+                });
+            }
+            return ImportAccountUser.Progress.builder()
+                    .committedLine(Math.max(lineNumber, committedLine))
+                    .imported(imported + users.size())
+                    .rejected(rejected)
+                    .rejections(rejections.isEmpty() ? null : List.copyOf(rejections))
+                    .build();
+        } catch (Exception e) {
+            log.error("Failed to import account users. lines {} ~ {}", committedLine + 1, lineNumber, e);
+            return ImportAccountUser.Progress.builder()
+                    .committedLine(committedLine)
+                    .imported(imported)
+                    .rejected(rejected - rejections.size())
+                    .error(e.getMessage())
+                    .build();
+        }
+    }
+
+    private void saveCheckpoint(String checkpointKey, long committedLine) {
+        AccountUserImportCheckpoint checkpoint = checkpointRepository.findByImportKey(checkpointKey)
+                .orElseGet(() -> AccountUserImportCheckpoint.builder()
+                        .importKey(checkpointKey)
+                        .build());
+        checkpoint.setCommittedLine(committedLine);
+        checkpointRepository.save(checkpoint);
+    }
+
+    private static boolean isCsvHeader(ImportFormat format, String line) {
+        return format == ImportFormat.CSV && line.strip().equalsIgnoreCase("name");
+    }
+
+    private String parseName(ImportFormat format, String line) {
+        if (format == ImportFormat.NDJSON) {
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                JsonNode name = node.get("name");
+                return name != null && name.isTextual() ? name.asText() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return parseCsvFirstField(line);
+    }
+
+    // 첫 번째 열 ("..." 로 감싼 값은 "" 를 " 로)
+    static String parseCsvFirstField(String line) {
+        if (!line.startsWith("\"")) {
+            int comma = line.indexOf(',');
+            return comma < 0 ? line : line.substring(0, comma);
+        }
+        StringBuilder field = new StringBuilder();
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '"') {
+                field.append(c);
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                field.append('"');
+                i++;
+            } else {
+                return field.toString();
+            }
+        }
+        // 닫는 따옴표 없음
+        return null;
+    }
+
+    private static String validateName(String name) {
+        if (name == null) {
+            return "invalid format";
+        }
+        if (name.isBlank()) {
+            return "blank name";
+        }
+        if (name.strip().length() > MAX_NAME_LENGTH) {
+            return "name too long";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.account.service.account;
+
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.util.ConcurrentLongLongMap;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자/계좌 버전 (ETag)
+ * 계좌 생성/해지, 잔액 사용/취소가 커밋되면 해당 사용자와 계좌의 버전을 올린다.
+ * 버전은 노드 메모리에 있으므로 ETag 에 노드 식별자(epoch : 기동 시각 + 난수)를 함께 넣는다.
+ * (재시작하거나 다른 노드로 간 요청의 If-None-Match 는 일치하지 않아 전체 응답)
+ * 여러 노드로 운영하면 account.version.redis-topic.enabled=true 로 다른 노드의 변경도 Redis topic 으로 받아 버전을 올린다.
+ * (topic 은 전달을 보장하지 않으므로 메시지가 유실되면 그 노드는 다음 변경까지 이전 ETag 로 304 를 응답할 수 있다)
+ * 버전은 조회 캐시 무효화가 끝난 뒤에 올린다. (먼저 올리면 새 ETag 로 이전 캐시 결과를 응답할 수 있음)
+ */
+@Slf4j
+@Service
+public class AccountVersionService {
+    private static final String TOPIC = "account-version";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36);
+    private final ConcurrentLongLongMap userVersions = new ConcurrentLongLongMap(1024);
+    private final ConcurrentLongLongMap accountVersions = new ConcurrentLongLongMap(1024);
+    private final ObjectProvider<RedissonClient> redissonClient;
+    private final boolean redisTopicEnabled;
+    private RTopic topic;
+
+    public AccountVersionService(ObjectProvider<RedissonClient> redissonClient,
+                                 @Value("${account.version.redis-topic.enabled:false}") boolean redisTopicEnabled) {
+        this.redissonClient = redissonClient;
+        this.redisTopicEnabled = redisTopicEnabled;
+    }
+
+    @PostConstruct
+    public void subscribeTopic() {
+        RedissonClient client = redisTopicEnabled ? redissonClient.getIfAvailable() : null;
+        if (client == null) {
+            return;
+        }
+        topic = client.getTopic(TOPIC, StringCodec.INSTANCE);
+        // 메시지 : 보낸 노드 epoch,userId,accountId (자기 변경은 이미 올렸으므로 건너뜀)
+        topic.addListener(String.class, (channel, message) -> {
+            try {
+                String[] fields = message.split(",");
+                if (!epoch.equals(fields[0])) {
+                    bump(Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to read account version message. {}", message, e);
+            }
+        });
+    }
+
+    public String userETag(Long userId) {
+        return eTag(userVersions, userId);
+    }
+
+    public String accountETag(Long accountId) {
+        return eTag(accountVersions, accountId);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        long userId = event.getUserId() == null ? 0L : event.getUserId();
+        long accountId = event.getAccountId() == null ? 0L : event.getAccountId();
+        bump(userId, accountId);
+        if (topic != null) {
+            try {
+                topic.publish(epoch + "," + userId + "," + accountId);
+            } catch (Exception e) {
+                log.error("Failed to publish account version message.", e);
+            }
+        }
+    }
+
+    private void bump(long userId, long accountId) {
+        if (userId != 0) {
+            userVersions.incrementAndGet(userId);
+        }
+        if (accountId != 0) {
+            accountVersions.incrementAndGet(accountId);
+        }
+    }
+
+    private String eTag(ConcurrentLongLongMap versions, Long id) {
+        long version = id == null || id == 0 ? 0L : versions.get(id, 0L);
+        return "\"" + epoch + "-" + version + "\"";
+    }
+}
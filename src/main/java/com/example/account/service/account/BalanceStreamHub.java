@@ -0,0 +1,270 @@
+package com.example.account.service.account;
+
+import com.example.account.event.BalanceChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 계좌별 잔액 변경 SSE 팬아웃
+ * 구독자마다 스레드를 두지 않고, 보낼 이벤트가 생긴 구독자만 공용 전송 풀에서 처리한다.
+ * 구독자별로 최신 이벤트 하나만 보관하므로 느린 구독자에게는 중간 잔액이 합쳐져(최신 값만) 전달된다.
+ * 전송이 send-timeout-ms 를 넘게 막혀 있는 구독자는 연결을 끊고 전송 스레드를 깨워 다른 구독자가 밀리지 않게 한다.
+ * balance-stream.redis-topic.enabled=true 인 경우 커밋된 변경을 Redis topic 으로 보내 모든 노드의 구독자에게 전달한다.
+ */
+@Slf4j
+@Component
+public class BalanceStreamHub {
+    private static final String TOPIC = "balance-stream";
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService watchdog;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final boolean redisTopicEnabled;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private RTopic topic;
+
+    public BalanceStreamHub(RedissonClient redissonClient,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${balance-stream.redis-topic.enabled:false}") boolean redisTopicEnabled,
+                            @Value("${balance-stream.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${balance-stream.sender-threads:2}") int senderThreads,
+                            @Value("${balance-stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.redisTopicEnabled = redisTopicEnabled;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "balance-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-stream-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMillis = Math.max(10L, sendTimeoutMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::dropStalledSubscribers, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        this.coalescedCounter = Counter.builder("balance.stream.coalesced").register(meterRegistry);
+        this.droppedCounter = Counter.builder("balance.stream.dropped").register(meterRegistry);
+        meterRegistry.gauge("balance.stream.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+    }
+
+    @PostConstruct
+    public void subscribeTopic() {
+        if (!redisTopicEnabled) {
+            return;
+        }
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        topic.addListener(String.class, (channel, message) -> {
+            try {
+                dispatch(objectMapper.readValue(message, BalanceChangedEvent.class));
+            } catch (Exception e) {
+                log.error("Failed to read balance stream message.", e);
+            }
+        });
+    }
+
+    public SseEmitter subscribe(String accountNumber) {
+        return subscribe(accountNumber, new SseEmitter(timeoutMillis));
+    }
+
+    public SseEmitter subscribe(String accountNumber, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(accountNumber, emitter);
+        subscribers.computeIfAbsent(accountNumber, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    public int subscriberCount(String accountNumber) {
+        Set<Subscriber> accountSubscribers = subscribers.get(accountNumber);
+        return accountSubscribers == null ? 0 : accountSubscribers.size();
+    }
+
+    // 커밋 이후에만 전달 (롤백된 잔액은 보내지 않음)
+    @TransactionalEventListener
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        if (topic == null) {
+            dispatch(event);
+            return;
+        }
+        try {
+            topic.publish(objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.error("Failed to publish balance stream message.", e);
+            dispatch(event);
+        }
+    }
+
+    void dispatch(BalanceChangedEvent event) {
+        Set<Subscriber> accountSubscribers = subscribers.get(event.getAccountNumber());
+        if (accountSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : accountSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    // 전송이 send-timeout-ms 를 넘게 끝나지 않은 구독자 정리
+    void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> accountSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : accountSubscribers) {
+                if (subscriber.isStalled(now)) {
+                    log.warn("Dropping stalled balance stream subscriber. accountNumber={}",
+                            subscriber.accountNumber);
+                    droppedCounter.increment();
+                    subscriber.drop();
+                }
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.accountNumber, (key, accountSubscribers) -> {
+            accountSubscribers.remove(subscriber);
+            return accountSubscribers.isEmpty() ? null : accountSubscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final String accountNumber;
+        private final SseEmitter emitter;
+        private final AtomicReference<BalanceChangedEvent> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 전송 중이면 시작 시각(nanoTime)과 전송 스레드, 아니면 0 / null
+        private volatile long sendStartedAt;
+        private final AtomicReference<Thread> sendingThread = new AtomicReference<>();
+
+        private Subscriber(String accountNumber, SseEmitter emitter) {
+            this.accountNumber = accountNumber;
+            this.emitter = emitter;
+        }
+
+        // 아직 보내지 못한 이벤트가 있으면 최신 이벤트로 덮어쓴다.
+        private void offer(BalanceChangedEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.getAndSet(event) != null) {
+                coalescedCounter.increment();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            // 이전 구독자 전송을 끊을 때 남은 인터럽트 상태 제거
+            Thread.interrupted();
+            try {
+                BalanceChangedEvent event;
+                while (!closed.get() && (event = pending.getAndSet(null)) != null) {
+                    Thread current = Thread.currentThread();
+                    sendingThread.set(current);
+                    sendStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .name("balance")
+                                .id(event.getTransactionId())
+                                .data(event));
+                    } finally {
+                        sendStartedAt = 0L;
+                        if (!sendingThread.compareAndSet(current, null)) {
+                            // drop 이 이 스레드를 깨우기로 했으므로 인터럽트를 받아 지운 뒤 다음 작업으로 넘어간다.
+                            while (!Thread.interrupted()) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                close(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // 전송 중에 들어온 이벤트
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+
+        private boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0L && now - startedAt > sendTimeoutNanos;
+        }
+
+        // 막힌 전송 스레드를 깨우고 연결을 끊는다.
+        // completeWithError 는 막힌 send 와 같은 emitter 락을 잡으므로 감시 스레드가 아닌 전송 풀에서 호출한다.
+        private void drop() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            remove(this);
+            Thread thread = sendingThread.get();
+            // 전송 스레드가 이미 이 구독자 전송을 끝냈으면 CAS 가 실패하므로 다른 구독자 전송을 깨우지 않는다.
+            if (thread != null && sendingThread.compareAndSet(thread, null)) {
+                thread.interrupt();
+            }
+            TimeoutException timeout = new TimeoutException("Balance stream send timed out");
+            try {
+                sender.execute(() -> emitter.completeWithError(timeout));
+            } catch (RejectedExecutionException e) {
+                log.warn("Failed to complete dropped balance stream subscriber. accountNumber={}", accountNumber);
+            }
+        }
+
+        private void close(Exception e) {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
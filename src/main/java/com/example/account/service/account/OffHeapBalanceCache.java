@@ -0,0 +1,368 @@
+package com.example.account.service.account;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.dto.account.AccountDto;
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.event.BalanceChangedEvent;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.util.ConcurrentLongLongMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 잔액 off-heap 캐시 (GET /account?user_id=)
+ * 계좌마다 고정 크기 슬롯 하나를 direct ByteBuffer 페이지에 두고, 힙에는 long 배열 기반 인덱스만 둔다.
+ * 계좌 수가 늘어도 GC 가 훑어야 할 객체(엔티티/DTO)는 늘지 않는다.
+ * - 계좌번호 -> 슬롯 : ConcurrentLongLongMap (키는 AccountIndex 와 같은 계좌번호 + 1)
+ * - 사용자 -> 마지막에 추가된 슬롯, 슬롯마다 같은 사용자의 이전 슬롯을 가리켜 계좌 목록을 잇는다.
+ * 슬롯 갱신은 VarHandle 로 seqlock(홀수면 쓰는 중)을 잡고, 읽기는 락 없이 읽은 뒤 seqlock 값이 그대로인지 확인한다.
+ * 잔액은 커밋 이후(BalanceChangedEvent)에만 반영하고, 거래 시각(version)이 더 이전인 변경은 무시한다.
+ * 기동 후 생성된 계좌는 잔액을 모르는 상태로 추가되며, 해당 사용자는 DB 조회 결과로 채울 때까지 DB 에서 응답한다.
+ * 적재가 끝나기 전에 아직 슬롯이 없는 계좌의 잔액이 바뀌면(행을 읽은 뒤 추가하기 전 등) 계좌를 기록해 두었다가,
+ * 적재 후 해당 슬롯을 잔액을 모르는 상태로 돌린다. (적재 시점에 읽은 잔액이 이전 값일 수 있다)
+ * Redis 잔액 모드(transaction.hot-balance.enabled)에서는 DB 반영 시 잔액 변경 이벤트가 없으므로 사용하지 않는다.
+ *
+ * 슬롯 배치 (48 byte, native order) :
+ * [0] seqlock | [8] 잔액 | [16] version | [24] 계좌번호 | [32] 소유자 id | [40] 상태 (int) | [44] 이전 슬롯 (int)
+ */
+@Slf4j
+@Component
+public class OffHeapBalanceCache {
+    static final long UNKNOWN_BALANCE = Long.MIN_VALUE;
+
+    private static final int SEQ = 0;
+    private static final int BALANCE = 8;
+    private static final int VERSION = 16;
+    private static final int ACCOUNT_NUMBER = 24;
+    private static final int USER_ID = 32;
+    private static final int STATUS = 40;
+    private static final int PREVIOUS = 44;
+    private static final int SLOT_BYTES = 48;
+    private static final int NONE = -1;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private final ConcurrentLongLongMap accountSlots;
+    private final ConcurrentLongLongMap userHeads;
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int pageShift;
+    private final int pageMask;
+    private volatile ByteBuffer[] pages = new ByteBuffer[0];
+    private int slotCount;
+    // 적재가 끝나기 전 슬롯이 없어 반영하지 못한 잔액 변경 (키 = 계좌번호 + 1, allocationLock 으로 보호, 적재 후 null)
+    private List<Long> pendingInvalidations = new ArrayList<>();
+    private volatile boolean loaded;
+
+    public OffHeapBalanceCache(DataSource dataSource,
+                               @Value("${account.balance-cache.enabled:false}") boolean enabled,
+                               @Value("${transaction.hot-balance.enabled:false}") boolean hotBalanceEnabled,
+                               @Value("${account.balance-cache.page-slots:65536}") int pageSlots,
+                               @Value("${account.balance-cache.expected-size:1024}") int expectedSize,
+                               @Value("${account.balance-cache.fetch-size:10000}") int fetchSize) {
+        int slotsPerPage = Integer.highestOneBit(Math.max(1, pageSlots - 1)) << 1;
+        this.pageShift = Integer.numberOfTrailingZeros(slotsPerPage);
+        this.pageMask = slotsPerPage - 1;
+        this.accountSlots = new ConcurrentLongLongMap(expectedSize);
+        this.userHeads = new ConcurrentLongLongMap(expectedSize);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.enabled = enabled && !hotBalanceEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        // 적재 값은 version 0 : 적재 중 커밋된 변경(거래 시각 > 0)이 뒤에 오면 덮어쓴다.
+        RowCallbackHandler rowHandler = rs -> addIfAbsent(rs.getLong("account_number"),
+                rs.getLong("account_user_id"), AccountStatus.valueOf(rs.getString("account_status")),
+                rs.getLong("balance"));
+        jdbcTemplate.query("select account_number, account_user_id, account_status, balance from account order by id",
+                rowHandler);
+        invalidatePending();
+        loaded = true;
+        log.info("Loaded {} balances into off-heap balance cache ({} bytes) in {} ms", size(),
+                (long) pages.length * (pageMask + 1) * SLOT_BYTES, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 적재 전이거나 잔액을 모르는 계좌가 있으면 null (DB 에서 조회)
+    public List<AccountInfo> findAccountsByUserId(Long userId) {
+        if (!loaded || userId == null || userId <= 0) {
+            return null;
+        }
+        int slot = (int) userHeads.get(userId, 0L) - 1;
+        if (slot == NONE) {
+            return null;
+        }
+        List<AccountInfo> accounts = new ArrayList<>();
+        for (; slot != NONE; slot = previous(slot)) {
+            long balance = read(slot).balance();
+            if (balance == UNKNOWN_BALANCE) {
+                return null;
+            }
+            accounts.add(AccountInfo.builder()
+                    .accountNumber(AccountNumberConverter.toAccountNumber(accountNumber(slot)))
+                    .balance(balance)
+                    .build());
+        }
+        // 슬롯은 추가된 역순으로 이어져 있다.
+        Collections.reverse(accounts);
+        return accounts;
+    }
+
+    // DB 조회 결과로 잔액을 모르는 슬롯만 채운다. (이미 이벤트로 반영된 잔액이 더 최신)
+    public void fill(List<AccountDto> accounts) {
+        if (!enabled) {
+            return;
+        }
+        for (AccountDto account : accounts) {
+            int slot = find(account.getAccountNumber());
+            if (slot != NONE && account.getBalance() != null) {
+                ByteBuffer page = page(slot);
+                int base = offset(slot);
+                long seq = beginWrite(page, base);
+                if ((long) LONGS.getOpaque(page, base + BALANCE) == UNKNOWN_BALANCE) {
+                    LONGS.setOpaque(page, base + BALANCE, account.getBalance());
+                }
+                endWrite(page, base, seq);
+            }
+        }
+    }
+
+    // 잔액 사용/취소/송금 커밋 이후 (버전(ETag) 증가보다 먼저)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        if (!enabled || event.getBalance() == null) {
+            return;
+        }
+        int slot = find(event.getAccountNumber());
+        if (slot == NONE) {
+            slot = findOrRecordPending(event.getAccountNumber());
+            if (slot == NONE) {
+                return;
+            }
+        }
+        long version = version(event.getTransactedAt());
+        ByteBuffer page = page(slot);
+        int base = offset(slot);
+        long seq = beginWrite(page, base);
+        if (version >= (long) LONGS.getOpaque(page, base + VERSION)) {
+            LONGS.setOpaque(page, base + BALANCE, event.getBalance());
+            LONGS.setOpaque(page, base + VERSION, version);
+        }
+        endWrite(page, base, seq);
+    }
+
+    // 계좌 생성/해지 커밋 이후 : 없던 계좌는 잔액을 모르는 상태로 추가
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (!enabled || event.getUserId() == null || event.getAccountStatus() == null) {
+            return;
+        }
+        Long accountNumber = AccountNumberConverter.toColumn(event.getAccountNumber());
+        if (accountNumber == null) {
+            return;
+        }
+        int slot = (int) accountSlots.get(accountNumber + 1, 0L) - 1;
+        if (slot == NONE) {
+            addIfAbsent(accountNumber, event.getUserId(), event.getAccountStatus(), UNKNOWN_BALANCE);
+            return;
+        }
+        ByteBuffer page = page(slot);
+        int base = offset(slot);
+        long seq = beginWrite(page, base);
+        INTS.setOpaque(page, base + STATUS, event.getAccountStatus().ordinal());
+        endWrite(page, base, seq);
+    }
+
+    public int size() {
+        allocationLock.lock();
+        try {
+            return slotCount;
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    void addIfAbsent(long accountNumber, long userId, AccountStatus status, long balance) {
+        if (userId <= 0) {
+            return;
+        }
+        allocationLock.lock();
+        try {
+            if (accountSlots.get(accountNumber + 1, 0L) != 0L) {
+                return;
+            }
+            int slot = slotCount;
+            if ((slot >>> pageShift) == pages.length) {
+                addPage();
+            }
+            ByteBuffer page = page(slot);
+            int base = offset(slot);
+            LONGS.setOpaque(page, base + BALANCE, balance);
+            LONGS.setOpaque(page, base + VERSION, 0L);
+            LONGS.setOpaque(page, base + ACCOUNT_NUMBER, accountNumber);
+            LONGS.setOpaque(page, base + USER_ID, userId);
+            INTS.setOpaque(page, base + STATUS, status.ordinal());
+            INTS.setOpaque(page, base + PREVIOUS, (int) userHeads.get(userId, 0L) - 1);
+            LONGS.setRelease(page, base + SEQ, 0L);
+            slotCount = slot + 1;
+            accountSlots.put(accountNumber + 1, slot + 1L);
+            userHeads.put(userId, slot + 1L);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    // 적재 중 슬롯이 없으면 적재 후 무효화할 계좌로 기록 (addIfAbsent 와 같은 락으로 그 사이 추가된 슬롯도 확인)
+    private int findOrRecordPending(String accountNumber) {
+        long key = AccountIndex.key(accountNumber);
+        if (key == AccountIndex.MISSING) {
+            return NONE;
+        }
+        allocationLock.lock();
+        try {
+            int slot = (int) accountSlots.get(key, 0L) - 1;
+            if (slot == NONE && pendingInvalidations != null) {
+                pendingInvalidations.add(key);
+            }
+            return slot;
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    // 적재 중 놓친 변경이 있는 슬롯은 이후 이벤트로 반영된 적이 없으면(version 0) 잔액을 모르는 상태로
+    private void invalidatePending() {
+        List<Long> pending;
+        allocationLock.lock();
+        try {
+            pending = pendingInvalidations;
+            pendingInvalidations = null;
+        } finally {
+            allocationLock.unlock();
+        }
+        for (long key : pending) {
+            int slot = (int) accountSlots.get(key, 0L) - 1;
+            if (slot == NONE) {
+                continue;
+            }
+            ByteBuffer page = page(slot);
+            int base = offset(slot);
+            long seq = beginWrite(page, base);
+            if ((long) LONGS.getOpaque(page, base + VERSION) == 0L) {
+                LONGS.setOpaque(page, base + BALANCE, UNKNOWN_BALANCE);
+            }
+            endWrite(page, base, seq);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Invalidated {} balances changed while loading off-heap balance cache", pending.size());
+        }
+    }
+
+    // 없으면 -1
+    int find(String accountNumber) {
+        long key = AccountIndex.key(accountNumber);
+        return key == AccountIndex.MISSING ? NONE : (int) accountSlots.get(key, 0L) - 1;
+    }
+
+    // 잔액, 상태, version 을 같은 시점의 값으로 읽는다.
+    Slot read(int slot) {
+        ByteBuffer page = page(slot);
+        int base = offset(slot);
+        while (true) {
+            long seq = (long) LONGS.getAcquire(page, base + SEQ);
+            if ((seq & 1) == 0) {
+                long balance = (long) LONGS.getOpaque(page, base + BALANCE);
+                long version = (long) LONGS.getOpaque(page, base + VERSION);
+                int status = (int) INTS.getOpaque(page, base + STATUS);
+                VarHandle.acquireFence();
+                if ((long) LONGS.getOpaque(page, base + SEQ) == seq) {
+                    return new Slot(balance, STATUSES[status], version);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    record Slot(long balance, AccountStatus status, long version) {
+    }
+
+    // 계좌번호, 소유자, 이전 슬롯은 추가 이후 바뀌지 않는다.
+    private long accountNumber(int slot) {
+        return (long) LONGS.getOpaque(page(slot), offset(slot) + ACCOUNT_NUMBER);
+    }
+
+    private int previous(int slot) {
+        return (int) INTS.getOpaque(page(slot), offset(slot) + PREVIOUS);
+    }
+
+    private long beginWrite(ByteBuffer page, int base) {
+        while (true) {
+            long seq = (long) LONGS.getVolatile(page, base + SEQ);
+            if ((seq & 1) == 0 && LONGS.compareAndSet(page, base + SEQ, seq, seq + 1)) {
+                return seq + 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void endWrite(ByteBuffer page, int base, long seq) {
+        LONGS.setRelease(page, base + SEQ, seq + 1);
+    }
+
+    // 기존 페이지는 옮기지 않고 배열만 늘린다.
+    private void addPage() {
+        ByteBuffer[] grown = new ByteBuffer[pages.length + 1];
+        System.arraycopy(pages, 0, grown, 0, pages.length);
+        // VarHandle 원자 연산은 8바이트 정렬된 주소에서만 가능
+        grown[pages.length] = ByteBuffer.allocateDirect((pageMask + 1) * SLOT_BYTES + Long.BYTES - 1)
+                .alignedSlice(Long.BYTES);
+        pages = grown;
+    }
+
+    private ByteBuffer page(int slot) {
+        return pages[slot >>> pageShift];
+    }
+
+    private int offset(int slot) {
+        return (slot & pageMask) * SLOT_BYTES;
+    }
+
+    // 거래 시각 (마이크로초, 시간대와 무관하게 순서만 비교)
+    private static long version(LocalDateTime transactedAt) {
+        if (transactedAt == null) {
+            return 0L;
+        }
+        return transactedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + transactedAt.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.account.service.dataset;
+
+import com.example.account.dto.dataset.GenerateDataset;
+import com.example.account.service.account.AccountService;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 성능 테스트용 사용자 / 계좌 / 거래 데이터 생성 (batch JDBC)
+ * - 사용자당 계좌 1 ~ maxAccountsPerUser 개 (적은 쪽으로 치우침), 일부는 해지 상태
+ * - 계좌별 거래 수는 Zipf 분포 (소수 계좌에 거래가 몰림, 어느 계좌가 몰릴지는 seed 로 섞는다)
+ * - 거래 시각은 계좌 개설 이후 endAt 까지 고르게 분포 (days 를 1년보다 길게 주면 취소 가능 기간 밖의 거래도 생긴다)
+ * - 성공/실패/취소가 섞인 거래의 잔액 스냅샷이 이어지고, 계좌 잔액은 마지막 스냅샷과 같다. (정합성 점검 통과)
+ * 사용자/계좌/원장은 각각 (seed, 번호) 로 만든 난수열을 쓰므로 같은 seed 면 같은 데이터가 만들어진다.
+ * 계좌 잔액을 먼저 넣어야 하므로 계좌마다 원장을 두 번 계산한다. (1 : 최종 잔액, 2 : 거래 저장)
+ * id 는 시퀀스에서 받은 값 이후로 직접 매기고, 끝나면 시퀀스를 그 뒤로 옮긴다.
+ * 계좌번호는 1000000000 + 계좌 id (계좌 생성 API 와 일괄 생성은 중복을 확인하므로 겹치지 않는다)
+ * 거래 아이디 앞 8바이트는 (seed, 거래 id) 로 만들어, 같은 DB 에 다시 생성해도(id 가 이어짐) 겹치지 않는다.
+ * 같은 seed 로 같은 데이터를 다시 만들려면 빈 DB 에서 생성한다. (기존 데이터가 있으면 그 뒤에 추가된다)
+ */
+@Slf4j
+@Service
+public class DatasetGenerator {
+    private static final long ACCOUNT_NUMBER_BASE = 1_000_000_000L;
+    private static final long LAST_ACCOUNT_NUMBER = 9_999_999_999L;
+    // Hibernate pooled 시퀀스 증가 크기
+    private static final int SEQUENCE_INCREMENT = 50;
+    private static final long MIN_AMOUNT = 10L;
+
+    private static final long USER_STREAM = 0x5EED_0001L;
+    private static final long ACCOUNT_STREAM = 0x5EED_0002L;
+    private static final long LEDGER_STREAM = 0x5EED_0003L;
+    private static final long DETAIL_STREAM = 0x5EED_0004L;
+    private static final long TRANSACTION_ID_STREAM = 0x5EED_0005L;
+
+    private static final String INSERT_USER = "insert into account_user " +
+            "(id, name, active_account_count, created_at, updated_at) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_ACCOUNT = "insert into account " +
+            "(id, account_user_id, account_number, account_status, balance, registered_at, un_registered_at, " +
+            "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TRANSACTION = "insert into transaction " +
+            "(id, account_id, transaction_type, transaction_result_type, amount, balance_snapshot, transaction_id, " +
+            "transacted_at, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DatasetGenerator(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public GenerateDataset.Result generate(GenerateDataset.Spec spec) {
+        validate(spec);
+        long startedAt = System.nanoTime();
+        LocalDateTime endAt = spec.getEndAt() != null
+                ? spec.getEndAt() : LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        long spanMillis = spec.getDays() * 86_400_000L;
+
+        // 사용자별 계좌 수
+        SplittableRandom userRandom = new SplittableRandom(streamSeed(spec.getSeed(), USER_STREAM, 0));
+        int maxAccounts = spec.getMaxAccountsPerUser();
+        byte[] accountsPerUser = new byte[spec.getUsers()];
+        int accountCount = 0;
+        for (int i = 0; i < accountsPerUser.length; i++) {
+            double r = userRandom.nextDouble();
+            accountsPerUser[i] = (byte) Math.min(maxAccounts, 1 + (int) (maxAccounts * r * r));
+            accountCount += accountsPerUser[i];
+        }
+
+        BitSet unregistered = new BitSet(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            if (accountRandom(spec, i).nextDouble() < spec.getUnregisteredRatio()) {
+                unregistered.set(i);
+            }
+        }
+        int[] transactionCounts = transactionCounts(spec, accountCount, unregistered);
+
+        long userBase = nextId("account_user");
+        long accountBase = nextId("account");
+        if (ACCOUNT_NUMBER_BASE + accountBase + accountCount - 1 > LAST_ACCOUNT_NUMBER) {
+            throw new IllegalStateException("Account number space exhausted");
+        }
+        long transactionBase = nextId("transaction");
+        log.info("Generating {} users, {} accounts, {} transactions (seed {})", spec.getUsers(), accountCount,
+                spec.getTransactions(), spec.getSeed());
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> accounts = new ArrayList<>();
+        List<Object[]> transactions = new ArrayList<>();
+        List<PendingAccount> pending = new ArrayList<>();
+        long transactionId = transactionBase;
+        int accountIndex = 0;
+        for (int userIndex = 0; userIndex < spec.getUsers(); userIndex++) {
+            long userId = userBase + userIndex;
+            LocalDateTime userCreatedAt = endAt.minusDays(spec.getDays());
+            int active = 0;
+            for (int i = 0; i < accountsPerUser[userIndex]; i++, accountIndex++) {
+                PendingAccount account = account(spec, accountIndex, accountBase + accountIndex, endAt, spanMillis,
+                        unregistered.get(accountIndex), transactionCounts[accountIndex]);
+                pending.add(account);
+                if (account.status() == AccountStatus.IN_USE) {
+                    active++;
+                }
+                accounts.add(new Object[]{account.id(), userId, ACCOUNT_NUMBER_BASE + account.id(),
+                        account.status().name(), account.balance(), account.registeredAt(), account.unRegisteredAt(), account.registeredAt(),
+                        account.unRegisteredAt() != null ? account.unRegisteredAt() : account.registeredAt()});
+            }
+            users.add(new Object[]{userId, "user-" + userId, active, userCreatedAt, userCreatedAt});
+
+            // 거래는 계좌가 저장된 뒤에 넣는다. (외래 키)
+            if (accounts.size() >= spec.getBatchSize() || userIndex == spec.getUsers() - 1) {
+                flush(INSERT_USER, users);
+                flush(INSERT_ACCOUNT, accounts);
+                for (PendingAccount account : pending) {
+                    transactionId = addTransactions(spec, account, endAt, transactionId, transactions);
+                }
+                pending.clear();
+                flush(INSERT_TRANSACTION, transactions);
+                log.info("Generated {} / {} users", userIndex + 1, spec.getUsers());
+            }
+        }
+
+        restartSequence("account_user", userBase + spec.getUsers() - 1);
+        restartSequence("account", accountBase + accountCount - 1);
+        restartSequence("transaction", transactionId - 1);
+        return GenerateDataset.Result.builder()
+                .users(spec.getUsers())
+                .accounts(accountCount)
+                .transactions(transactionId - transactionBase)
+                .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+    }
+
+    private static void validate(GenerateDataset.Spec spec) {
+        if (spec.getUsers() < 1 || spec.getMaxAccountsPerUser() < 1
+                || spec.getMaxAccountsPerUser() > AccountService.MAX_ACCOUNT_PER_USER
+                || spec.getTransactions() < 0 || spec.getMaxAmount() < MIN_AMOUNT || spec.getDays() < 1
+                || spec.getBatchSize() < 1) {
+            throw new IllegalArgumentException("invalid dataset spec");
+        }
+    }
+
+    // Zipf 순위를 계좌 번호에 섞어서 대응시킨다. (순위 r -> r * step mod n, step 은 n 과 서로소인 소수)
+    private static int[] transactionCounts(GenerateDataset.Spec spec, int accountCount, BitSet unregistered) {
+        double[] cumulative = new double[accountCount];
+        double sum = 0;
+        for (int i = 0; i < accountCount; i++) {
+            sum += 1.0 / Math.pow(i + 1, spec.getZipfSkew());
+            cumulative[i] = sum;
+        }
+        long step = accountCount % 1_000_003 == 0 ? 1_000_033L : 1_000_003L;
+        int[] counts = new int[accountCount];
+        SplittableRandom random = new SplittableRandom(streamSeed(spec.getSeed(), USER_STREAM, 1));
+        for (long t = 0; t < spec.getTransactions(); t++) {
+            double r = random.nextDouble() * sum;
+            int low = 0;
+            int high = accountCount - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < r) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int accountIndex = (int) (low * step % accountCount);
+            if (!unregistered.get(accountIndex)) {
+                counts[accountIndex]++;
+            }
+        }
+        return counts;
+    }
+
+    private static PendingAccount account(GenerateDataset.Spec spec, int accountIndex, long id, LocalDateTime endAt,
+                                          long spanMillis, boolean unregistered, int transactionCount) {
+        SplittableRandom random = accountRandom(spec, accountIndex);
+        random.nextDouble(); // 해지 여부 (transactionCounts 이전에 결정)
+        long registeredAgo = random.nextLong(spanMillis);
+        LocalDateTime registeredAt = endAt.minus(registeredAgo, ChronoUnit.MILLIS);
+        if (unregistered) {
+            LocalDateTime unRegisteredAt = registeredAt.plus(random.nextLong(registeredAgo + 1), ChronoUnit.MILLIS);
+            return new PendingAccount(accountIndex, id, AccountStatus.UNREGISTERED, 0L, 0L, registeredAt,
+                    unRegisteredAt, 0);
+        }
+        // 거래가 많은 계좌도 대부분 성공하도록 거래 수에 비례한 초기 잔액
+        long initialBalance = transactionCount * (spec.getMaxAmount() / 2) + random.nextLong(1_000_000L);
+        long balance = replayLedger(spec, accountIndex, transactionCount, initialBalance, null);
+        return new PendingAccount(accountIndex, id, AccountStatus.IN_USE, initialBalance, balance, registeredAt,
+                null, transactionCount);
+    }
+
+    // 다음 거래 id
+    private long addTransactions(GenerateDataset.Spec spec, PendingAccount account, LocalDateTime endAt,
+                                 long nextId, List<Object[]> transactions) {
+        if (account.transactionCount() == 0) {
+            return nextId;
+        }
+        SplittableRandom detailRandom = new SplittableRandom(
+                streamSeed(spec.getSeed(), DETAIL_STREAM, account.index()));
+        long spanMicros = ChronoUnit.MICROS.between(account.registeredAt(), endAt);
+        long[] id = {nextId};
+        // 정렬된 균등 분포를 큰 값부터 차례로 뽑아 (1 - u) 로 시간 순서를 만든다. (전체를 정렬하지 않음)
+        double[] remaining = {1.0};
+        int[] left = {account.transactionCount()};
+        replayLedger(spec, account.index(), account.transactionCount(), account.initialBalance(),
+                (type, result, amount, snapshot) -> {
+                    remaining[0] *= Math.pow(detailRandom.nextDouble(), 1.0 / left[0]--);
+                    LocalDateTime transactedAt = account.registeredAt().plus(
+                            (long) (spanMicros * (1.0 - remaining[0])), ChronoUnit.MICROS);
+                    byte[] transactionId = ByteBuffer.allocate(16)
+                            .putLong(streamSeed(spec.getSeed(), TRANSACTION_ID_STREAM, id[0]))
+                            .putLong(detailRandom.nextLong())
+                            .array();
+                    transactions.add(new Object[]{id[0]++, account.id(), type.name(), result.name(), amount, snapshot,
+                            transactionId, transactedAt, transactedAt, transactedAt});
+                    if (transactions.size() >= spec.getBatchSize()) {
+                        flush(INSERT_TRANSACTION, transactions);
+                    }
+                });
+        return id[0];
+    }
+
+    /**
+     * 원장 계산 (같은 계좌면 항상 같은 결과)
+     * @return 마지막 거래 이후 잔액
+     */
+    private static long replayLedger(GenerateDataset.Spec spec, int accountIndex, int transactionCount,
+                                     long initialBalance, LedgerSink sink) {
+        SplittableRandom random = new SplittableRandom(streamSeed(spec.getSeed(), LEDGER_STREAM, accountIndex));
+        long balance = initialBalance;
+        long lastUseAmount = 0L;
+        for (int i = 0; i < transactionCount; i++) {
+            double r = random.nextDouble();
+            long amount = MIN_AMOUNT + random.nextLong(spec.getMaxAmount() - MIN_AMOUNT + 1);
+            TransactionType type = TransactionType.USE;
+            TransactionResultType result = TransactionResultType.S;
+            if (r < spec.getCancelRatio() && lastUseAmount > 0) {
+                type = TransactionType.CANCEL;
+                amount = lastUseAmount;
+                balance += amount;
+                lastUseAmount = 0L;
+            } else if (r < spec.getCancelRatio() + spec.getFailureRatio() || amount > balance) {
+                result = TransactionResultType.F;
+            } else {
+                balance -= amount;
+                lastUseAmount = amount;
+            }
+            if (sink != null) {
+                sink.accept(type, result, amount, balance);
+            }
+        }
+        return balance;
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    // 시퀀스에서 새 값을 받아 Hibernate 가 이미 받아 둔 구간과 겹치지 않게 시작
+    private long nextId(String table) {
+        Long sequenceValue = jdbcTemplate.queryForObject("select next value for " + table + "_seq", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return Math.max(sequenceValue, maxId + 1);
+    }
+
+    // 다음에 Hibernate 가 받는 구간 (값 - 증가 크기, 값] 이 생성한 id 이후가 되도록
+    private void restartSequence(String table, long lastId) {
+        jdbcTemplate.execute("alter sequence " + table + "_seq restart with " + (lastId + SEQUENCE_INCREMENT + 1));
+    }
+
+    private static SplittableRandom accountRandom(GenerateDataset.Spec spec, int accountIndex) {
+        return new SplittableRandom(streamSeed(spec.getSeed(), ACCOUNT_STREAM, accountIndex));
+    }
+
+    // seed, 용도, 번호를 섞어 독립된 난수열의 seed 로 사용 (murmur3 finalizer)
+    private static long streamSeed(long seed, long stream, long index) {
+        long h = seed ^ (stream * 0x9E3779B97F4A7C15L) ^ (index * 0xC2B2AE3D27D4EB4FL);
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    @FunctionalInterface
+    private interface LedgerSink {
+        void accept(TransactionType type, TransactionResultType result, long amount, long balanceSnapshot);
+    }
+
+    private record PendingAccount(int index, long id, AccountStatus status, long initialBalance, long balance,
+                                  LocalDateTime registeredAt, LocalDateTime unRegisteredAt, int transactionCount) {
+    }
+}
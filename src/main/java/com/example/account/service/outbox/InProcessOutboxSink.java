@@ -0,0 +1,26 @@
+package com.example.account.service.outbox;
+
+import com.example.account.dto.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 같은 프로세스의 @EventListener(OutboxMessage) 로 발행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            applicationEventPublisher.publishEvent(message);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.account.service.outbox;
+
+import com.example.account.domain.BaseEntity;
+import com.example.account.domain.outbox.OutboxEvent;
+import com.example.account.dto.outbox.OutboxMessage;
+import com.example.account.repository.outbox.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ * 요청 스레드와 분리된 스레드에서 주기적으로 아웃박스를 id 키셋 커서로 읽어 배치 단위로 발행하고,
+ * 발행된 배치는 한 번에 삭제한다. (at-least-once)
+ * 발행된 행은 삭제되므로 매 주기마다 커서를 0 부터 다시 시작한다.
+ * 시퀀스 id 는 커밋 순서와 다를 수 있어, 늦게 커밋된 작은 id 도 다음 주기에 발행된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final Counter publishedCounter;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink outboxSink,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.interval-ms:200}") long intervalMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::relaySafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 발행한 건수
+    public int relay() throws Exception {
+        int published = 0;
+        long cursor = 0L;
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            outboxSink.publish(batch.stream().map(OutboxMessage::fromEntity).toList());
+            List<Long> ids = batch.stream().map(BaseEntity::getId).toList();
+            outboxEventRepository.deleteAllByIdInBatch(ids);
+
+            cursor = ids.get(ids.size() - 1);
+            published += ids.size();
+            publishedCounter.increment(ids.size());
+        } while (batch.size() == batchSize);
+        return published;
+    }
+
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.account.service.outbox;
+
+import com.example.account.dto.outbox.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * 아웃박스 발행 대상 (outbox.sink : in-process / file / redis-stream)
+ * 예외 없이 반환되면 발행된 것으로 보고 아웃박스에서 삭제한다.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
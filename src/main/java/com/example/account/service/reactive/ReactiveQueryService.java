@@ -0,0 +1,41 @@
+package com.example.account.service.reactive;
+
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.dto.transaction.QueryTransactionResponse;
+import com.example.account.exception.account.AccountException;
+import com.example.account.repository.reactive.ReactiveQueryRepository;
+import com.example.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 폴링이 많은 조회 API 의 논블로킹 버전
+ * 1. 사용자 계좌 목록 조회
+ * 2. 거래 확인
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveQueryService {
+    // 한 번에 요청하는 행 수 (구독자의 요청량을 넘어서 미리 읽지 않도록 제한)
+    private static final int ACCOUNT_PREFETCH = 64;
+
+    private final ReactiveQueryRepository reactiveQueryRepository;
+
+    public Flux<AccountInfo> getAccountsByUserId(Long userId) {
+        return reactiveQueryRepository.existsAccountUser(userId)
+                .flatMapMany(exists -> {
+                    if (!exists) {
+                        return Flux.error(AccountException.of(ErrorCode.USER_NOT_FOUND));
+                    }
+                    return reactiveQueryRepository.findAccountsByUserId(userId);
+                })
+                .limitRate(ACCOUNT_PREFETCH);
+    }
+
+    public Mono<QueryTransactionResponse> queryTransaction(String transactionId) {
+        return reactiveQueryRepository.findTransaction(transactionId)
+                .switchIfEmpty(Mono.error(AccountException.of(ErrorCode.TRANSACTION_NOT_FOUND)));
+    }
+}
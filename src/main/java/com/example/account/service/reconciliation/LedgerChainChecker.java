@@ -0,0 +1,121 @@
+package com.example.account.service.reconciliation;
+
+import com.example.account.dto.reconciliation.ReconciliationReport;
+import com.example.account.type.reconciliation.DiscrepancyType;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계좌별 거래 기록 검증 (계좌 id, 거래 순으로 정렬된 행을 한 줄씩 받는다)
+ * - 성공 거래 : 스냅샷 == 직전 잔액 ± 금액
+ * - 실패 거래 : 스냅샷 == 직전 잔액 (잔액 변화 없음, 거절된 취소도 CANCEL/F 로 저장된다)
+ * - 처리 대기 거래 : 아직 반영 전이므로 건너뜀
+ * - 계좌 잔액 == 마지막 거래 이후 잔액
+ * 계좌 생성 시 초기 잔액은 거래로 남지 않으므로 첫 거래의 스냅샷부터 검증한다.
+ * 불일치가 나오면 그 거래의 스냅샷을 기준으로 이어서 검증한다. (한 번의 오류가 이후 거래를 모두 불일치로 만들지 않도록)
+ */
+public class LedgerChainChecker {
+    private final int maxReported;
+    @Getter
+    private final List<ReconciliationReport.Discrepancy> discrepancies = new ArrayList<>();
+    @Getter
+    private long discrepancyCount;
+    @Getter
+    private long accounts;
+    @Getter
+    private long transactions;
+
+    // 검증 중인 계좌
+    private Long accountId;
+    private String accountNumber;
+    private long balance;
+    private Long expected;
+    private String lastTransactionId;
+
+    public LedgerChainChecker(int maxReported) {
+        this.maxReported = maxReported;
+    }
+
+    /**
+     * @param transactionId 거래가 없는 계좌면 null (left join)
+     */
+    public void accept(long accountId, String accountNumber, long balance, String transactionId,
+                       TransactionType transactionType, TransactionResultType transactionResultType,
+                       Long amount, Long balanceSnapshot) {
+        if (this.accountId == null || this.accountId != accountId) {
+            finishAccount();
+            this.accountId = accountId;
+            this.accountNumber = accountNumber;
+            this.balance = balance;
+            this.expected = null;
+            this.lastTransactionId = null;
+            accounts++;
+        }
+        if (transactionId == null || transactionResultType == TransactionResultType.P) {
+            return;
+        }
+        transactions++;
+
+        long snapshot = balanceSnapshot;
+        if (transactionResultType == TransactionResultType.S) {
+            if (expected != null) {
+                long chained = expected + transactionType.getBalanceSign() * amount;
+                if (chained != snapshot) {
+                    report(DiscrepancyType.SNAPSHOT_CHAIN_BROKEN, transactionId, chained, snapshot);
+                }
+            }
+            expected = snapshot;
+        } else {
+            if (expected != null && expected != snapshot) {
+                report(DiscrepancyType.FAILED_SNAPSHOT_MISMATCH, transactionId, expected, snapshot);
+            }
+            if (expected == null) {
+                expected = snapshot;
+            }
+        }
+        lastTransactionId = transactionId;
+    }
+
+    // 마지막 계좌까지 검증
+    public void finish() {
+        finishAccount();
+        accountId = null;
+    }
+
+    // fork-join 결과 합치기
+    public LedgerChainChecker merge(LedgerChainChecker other) {
+        accounts += other.accounts;
+        transactions += other.transactions;
+        discrepancyCount += other.discrepancyCount;
+        for (ReconciliationReport.Discrepancy discrepancy : other.discrepancies) {
+            if (discrepancies.size() >= maxReported) {
+                break;
+            }
+            discrepancies.add(discrepancy);
+        }
+        return this;
+    }
+
+    private void finishAccount() {
+        if (accountId != null && expected != null && expected != balance) {
+            report(DiscrepancyType.BALANCE_MISMATCH, lastTransactionId, expected, balance);
+        }
+    }
+
+    private void report(DiscrepancyType type, String transactionId, long expectedValue, long actualValue) {
+        discrepancyCount++;
+        if (discrepancies.size() < maxReported) {
+            discrepancies.add(ReconciliationReport.Discrepancy.builder()
+                    .type(type)
+                    .accountNumber(accountNumber)
+                    .transactionId(transactionId)
+                    .expected(expectedValue)
+                    .actual(actualValue)
+                    .build());
+        }
+    }
+}
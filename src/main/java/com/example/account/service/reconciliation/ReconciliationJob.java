@@ -0,0 +1,146 @@
+package com.example.account.service.reconciliation;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.domain.converter.TransactionIdConverter;
+import com.example.account.dto.reconciliation.ReconciliationReport;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 잔액 대사 작업 (Account.balance <-> Transaction 기록)
+ * 계좌 id 구간을 반씩 나눠 partition-size 이하가 되면 fork-join 풀에서 구간별로 처리한다.
+ * 구간마다 읽기 전용 REPEATABLE_READ 트랜잭션 하나에서 계좌+거래를 정렬된 커서 하나로 스트리밍하므로
+ * 계좌 락 없이 운영 중에도 구간 안에서는 같은 시점의 잔액과 거래를 비교한다. (메모리에는 계좌 하나분만 유지)
+ * 동시에 한 번만 실행한다.
+ */
+@Slf4j
+@Service
+public class ReconciliationJob {
+    private static final String PARTITION_SQL = "select a.id as account_id, a.account_number, a.balance, " +
+            "t.transaction_id, t.transaction_type, t.transaction_result_type, t.amount, t.balance_snapshot " +
+            "from account a left join transaction t on t.account_id = a.id " +
+            "where a.id >= ? and a.id < ? " +
+            "order by a.id, t.transacted_at, t.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter discrepancyCounter;
+    private final int parallelism;
+    private final long partitionSize;
+    private final int maxReported;
+
+    public ReconciliationJob(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${reconciliation.parallelism:4}") int parallelism,
+                             @Value("${reconciliation.partition-size:10000}") long partitionSize,
+                             @Value("${reconciliation.fetch-size:1000}") int fetchSize,
+                             @Value("${reconciliation.max-reported:1000}") int maxReported) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.discrepancyCounter = Counter.builder("reconciliation.discrepancies").register(meterRegistry);
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+        this.maxReported = maxReported;
+    }
+
+    public synchronized ReconciliationReport run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long[] idRange = jdbcTemplate.queryForObject("select min(id), max(id) from account",
+                (rs, rowNum) -> rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)});
+
+        AtomicInteger partitions = new AtomicInteger();
+        LedgerChainChecker result = new LedgerChainChecker(maxReported);
+        if (idRange != null) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                result = pool.invoke(new PartitionTask(idRange[0], idRange[1] + 1, partitions));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        discrepancyCounter.increment(result.getDiscrepancyCount());
+
+        ReconciliationReport report = ReconciliationReport.builder()
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .partitions(partitions.get())
+                .accounts(result.getAccounts())
+                .transactions(result.getTransactions())
+                .discrepancyCount(result.getDiscrepancyCount())
+                .discrepancies(result.getDiscrepancies())
+                .build();
+        if (report.getDiscrepancyCount() > 0) {
+            log.warn("Reconciliation found {} discrepancies in {} accounts", report.getDiscrepancyCount(),
+                    report.getAccounts());
+        } else {
+            log.info("Reconciliation checked {} accounts, {} transactions", report.getAccounts(),
+                    report.getTransactions());
+        }
+        return report;
+    }
+
+    // [fromId, toId) 구간
+    LedgerChainChecker reconcilePartition(long fromId, long toId) {
+        LedgerChainChecker checker = new LedgerChainChecker(maxReported);
+        RowCallbackHandler rowHandler = rs -> {
+            String transactionType = rs.getString("transaction_type");
+            String transactionResultType = rs.getString("transaction_result_type");
+            byte[] transactionId = rs.getBytes("transaction_id");
+            checker.accept(rs.getLong("account_id"),
+                    AccountNumberConverter.toAccountNumber(rs.getLong("account_number")), rs.getLong("balance"),
+                    transactionId == null ? null : TransactionIdConverter.toTransactionId(transactionId),
+                    transactionType == null ? null : TransactionType.valueOf(transactionType),
+                    transactionResultType == null ? null : TransactionResultType.valueOf(transactionResultType),
+                    rs.getObject("amount", Long.class), rs.getObject("balance_snapshot", Long.class));
+        };
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(PARTITION_SQL, rowHandler, fromId, toId));
+        checker.finish();
+        return checker;
+    }
+
+    private final class PartitionTask extends RecursiveTask<LedgerChainChecker> {
+        private final long fromId;
+        private final long toId;
+        private final AtomicInteger partitions;
+
+        private PartitionTask(long fromId, long toId, AtomicInteger partitions) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.partitions = partitions;
+        }
+
+        @Override
+        protected LedgerChainChecker compute() {
+            if (toId - fromId <= partitionSize) {
+                partitions.incrementAndGet();
+                return reconcilePartition(fromId, toId);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            PartitionTask left = new PartitionTask(fromId, middle, partitions);
+            left.fork();
+            LedgerChainChecker right = new PartitionTask(middle, toId, partitions).compute();
+            return left.join().merge(right);
+        }
+    }
+}
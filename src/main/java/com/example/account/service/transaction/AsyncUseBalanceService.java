@@ -0,0 +1,175 @@
+package com.example.account.service.transaction;
+
+import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.exception.account.AccountException;
+import com.example.account.service.LockService;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 비동기 잔액 사용
+ * 요청은 크기가 제한된 큐에 넣고 즉시 거래 아이디를 돌려준다.
+ * 큐가 가득 차면 TRANSACTION_QUEUE_FULL 로 거절한다.
+ * 처리 전/처리 중인 거래는 메모리에서, 처리된 거래는 DB 에서 조회한다.
+ * 계좌 락을 얻지 못하면 잔액을 건드리지 않았으므로 실패건으로 저장하지 않고 잠시 뒤 다시 큐에 넣는다.
+ */
+@Slf4j
+@Service
+public class AsyncUseBalanceService {
+    // DB 에 남지 않은 실패 건(계좌 없음 등)을 조회할 수 있도록 보관하는 시간
+    private static final long FAILED_RETENTION_MINUTES = 10L;
+
+    private final TransactionService transactionService;
+    private final LockService lockService;
+    private final ThreadPoolExecutor executor;
+    private final int lockRetries;
+    private final long lockRetryDelayMillis;
+    private final Map<String, TransactionDto> pendingTransactions = new ConcurrentHashMap<>();
+
+    public AsyncUseBalanceService(TransactionService transactionService,
+                                  LockService lockService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${transaction.async.workers:4}") int workers,
+                                  @Value("${transaction.async.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${transaction.async.lock-retries:3}") int lockRetries,
+                                  @Value("${transaction.async.lock-retry-delay-ms:100}") long lockRetryDelayMillis) {
+        this.transactionService = transactionService;
+        this.lockService = lockService;
+        this.lockRetries = lockRetries;
+        this.lockRetryDelayMillis = lockRetryDelayMillis;
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, queue,
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("transaction.async.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잔액 사용 요청 접수
+     * 반환되는 future 는 처리가 끝나면 거래 결과로, 실패하면 AccountException 으로 완료된다.
+     */
+    public CompletableFuture<TransactionDto> submit(String transactionId, Long userId,
+                                                    String accountNumber, Long amount) {
+        CompletableFuture<TransactionDto> result = new CompletableFuture<>();
+        pendingTransactions.put(transactionId, TransactionDto.builder()
+                .accountNumber(accountNumber)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.P)
+                .amount(amount)
+                .transactionId(transactionId)
+                .transactedAt(LocalDateTime.now())
+                .build());
+        try {
+            executor.execute(() -> process(transactionId, userId, accountNumber, amount, result, 0));
+        } catch (RejectedExecutionException e) {
+            pendingTransactions.remove(transactionId);
+            throw AccountException.of(ErrorCode.TRANSACTION_QUEUE_FULL);
+        }
+        return result;
+    }
+
+    // 처리 대기 중이거나 DB 에 남지 않은 실패 거래
+    public Optional<TransactionDto> findPending(String transactionId) {
+        return Optional.ofNullable(pendingTransactions.get(transactionId));
+    }
+
+    private void process(String transactionId, Long userId, String accountNumber, Long amount,
+                         CompletableFuture<TransactionDto> result, int attempt) {
+        try {
+            lockService.lock(accountNumber);
+        } catch (AccountException e) {
+            if (e.getErrorCode() == ErrorCode.ACCOUNT_TRANSACTION_LOCK) {
+                retryLater(transactionId, userId, accountNumber, amount, result, attempt, e);
+                return;
+            }
+            // 락 없이 실패건을 저장하면 다른 요청의 거래와 섞이므로 메모리에만 남긴다.
+            log.error("Failed to lock account for asynchronous use. {}", e.getErrorCode());
+            keepFailed(transactionId);
+            result.completeExceptionally(e);
+            return;
+        } catch (Exception e) {
+            log.error("Failed to lock account for asynchronous use.", e);
+            keepFailed(transactionId);
+            result.completeExceptionally(AccountException.of(ErrorCode.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        // 실패건 저장까지 락 안에서 처리 (락을 놓은 뒤 저장하면 다음 요청의 잔액 스냅샷과 순서가 뒤바뀐다)
+        try {
+            TransactionDto transactionDto =
+                    transactionService.useBalance(userId, accountNumber, amount, transactionId);
+            pendingTransactions.remove(transactionId);
+            result.complete(transactionDto);
+        } catch (AccountException e) {
+            log.error("Failed to use balance asynchronously. {}", e.getErrorCode());
+            saveFailed(transactionId, accountNumber, amount);
+            result.completeExceptionally(e);
+        } catch (Exception e) {
+            log.error("Failed to use balance asynchronously.", e);
+            saveFailed(transactionId, accountNumber, amount);
+            result.completeExceptionally(AccountException.of(ErrorCode.INTERNAL_SERVER_ERROR));
+        } finally {
+            lockService.unlock(accountNumber);
+        }
+    }
+
+    // 락 경합 : 잠시 뒤(시도마다 늘려서) 다시 큐에 넣고, 재시도를 다 쓰면 DB 에 남기지 않고 실패 처리
+    private void retryLater(String transactionId, Long userId, String accountNumber, Long amount,
+                            CompletableFuture<TransactionDto> result, int attempt, AccountException e) {
+        if (attempt >= lockRetries) {
+            log.warn("Failed to lock account for asynchronous use after {} retries.", attempt);
+            keepFailed(transactionId);
+            result.completeExceptionally(e);
+            return;
+        }
+        CompletableFuture.delayedExecutor(lockRetryDelayMillis * (attempt + 1), TimeUnit.MILLISECONDS)
+                .execute(() -> {
+                    try {
+                        executor.execute(() ->
+                                process(transactionId, userId, accountNumber, amount, result, attempt + 1));
+                    } catch (RejectedExecutionException rejected) {
+                        keepFailed(transactionId);
+                        result.completeExceptionally(AccountException.of(ErrorCode.TRANSACTION_QUEUE_FULL));
+                    }
+                });
+    }
+
+    // 실패건 저장 (계좌가 없거나 DB 오류로 저장할 수 없는 경우에는 메모리에 실패 상태로 잠시 보관)
+    // 예외를 던지지 않으므로 호출한 쪽은 항상 결과를 완료할 수 있다.
+    private void saveFailed(String transactionId, String accountNumber, Long amount) {
+        try {
+            transactionService.saveFailedUseTransaction(accountNumber, amount, transactionId);
+            pendingTransactions.remove(transactionId);
+        } catch (AccountException e) {
+            keepFailed(transactionId);
+        } catch (RuntimeException e) {
+            log.error("Failed to save failed asynchronous use transaction.", e);
+            keepFailed(transactionId);
+        }
+    }
+
+    private void keepFailed(String transactionId) {
+        pendingTransactions.computeIfPresent(transactionId, (id, pending) -> {
+            pending.setTransactionResultType(TransactionResultType.F);
+            return pending;
+        });
+        CompletableFuture.delayedExecutor(FAILED_RETENTION_MINUTES, TimeUnit.MINUTES)
+                .execute(() -> pendingTransactions.remove(transactionId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.account.service.transaction;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.exception.account.AccountException;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.redis.HotBalanceRepository;
+import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Redis 잔액을 원본으로 하는 잔액 사용/취소 (transaction.hot-balance.enabled=true)
+ * 계좌 락, Account 조회/수정 없이 Lua 스크립트 한 번으로 확인-차감-저널 기록을 처리하고
+ * 거래 저장과 잔액 반영은 HotBalanceWriteBehind 가 묶어서 DB 에 쓴다.
+ * 따라서 거래 확인 API 와 계좌 조회 API 는 반영 주기만큼 늦게 보일 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transaction.hot-balance.enabled", havingValue = "true")
+public class HotBalanceService {
+    private final HotBalanceRepository hotBalanceRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+
+    public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
+        if (amount < 10) {
+            throw AccountException.of(ErrorCode.INVALID_REQUEST);
+        }
+        String transactionId = TransactionService.createTransactionId();
+        long transactedAtMillis = System.currentTimeMillis();
+
+        long result = hotBalanceRepository.debit(userId, accountNumber, amount, transactionId, transactedAtMillis);
+        if (result == HotBalanceRepository.NOT_LOADED) {
+            load(accountNumber);
+            result = hotBalanceRepository.debit(userId, accountNumber, amount, transactionId, transactedAtMillis);
+        }
+        if (result < 0) {
+            throw AccountException.of(toErrorCode(result));
+        }
+
+        return toTransactionDto(TransactionType.USE, accountNumber, amount, result, transactionId,
+                transactedAtMillis);
+    }
+
+    // 취소 대상 거래는 DB 에서 확인하므로 아직 반영되지 않은 거래는 TRANSACTION_NOT_FOUND
+    public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
+        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
+                .orElseThrow(() -> AccountException.of(ErrorCode.TRANSACTION_NOT_FOUND));
+        validateCancelBalance(transaction, accountNumber, amount);
+
+        String cancelTransactionId = TransactionService.createTransactionId();
+        long transactedAtMillis = System.currentTimeMillis();
+
+        long result = hotBalanceRepository.credit(accountNumber, amount, cancelTransactionId, transactedAtMillis);
+        if (result == HotBalanceRepository.NOT_LOADED) {
+            load(accountNumber);
+            result = hotBalanceRepository.credit(accountNumber, amount, cancelTransactionId, transactedAtMillis);
+        }
+        if (result < 0) {
+            throw AccountException.of(toErrorCode(result));
+        }
+
+        return toTransactionDto(TransactionType.CANCEL, accountNumber, amount, result, cancelTransactionId,
+                transactedAtMillis);
+    }
+
+    private void validateCancelBalance(Transaction transaction, String accountNumber, Long amount) {
+        // 이체 출금/입금, 실패 거래, 취소 거래는 취소 대상이 아니다.
+        if (transaction.getTransactionType() != TransactionType.USE
+                || transaction.getTransactionResultType() != TransactionResultType.S) {
+            throw AccountException.of(ErrorCode.CANCEL_NOT_ALLOWED_TRANSACTION);
+        }
+        if (!Objects.equals(transaction.getAccount().getAccountNumber(), accountNumber)) {
+            throw AccountException.of(ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH);
+        }
+        if (!Objects.equals(transaction.getAmount(), amount)) {
+            throw AccountException.of(ErrorCode.CANCEL_MUST_FULLY);
+        }
+        if (transaction.getTransactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
+            throw AccountException.of(ErrorCode.TOO_OLD_ORDER_TO_CANCEL);
+        }
+    }
+
+    // DB 에서 계좌를 읽어 Redis 에 없을 때만 적재 (적재된 계좌는 내리지 않으므로 처음 한 번만 DB 값을 쓴다)
+    private void load(String accountNumber) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
+        hotBalanceRepository.loadIfAbsent(accountNumber, account.getAccountUser().getId(),
+                account.getAccountStatus(), account.getBalance());
+    }
+
+    /**
+     * DB 에서 계좌가 바뀐 경우 (생성, 해지, 저널 반영)
+     * Redis 잔액이 원본이므로 적재된 계좌의 상태만 맞춘다. (잔액을 바꾸는 기존 API 는 TransactionController 에서 이쪽으로 보낸다.)
+     */
+    @TransactionalEventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        hotBalanceRepository.updateStatus(event.getAccountNumber(), event.getAccountStatus());
+    }
+
+    private static ErrorCode toErrorCode(long result) {
+        if (result == HotBalanceRepository.USER_ACCOUNT_UN_MATCH) {
+            return ErrorCode.USER_ACCOUNT_UN_MATCH;
+        }
+        if (result == HotBalanceRepository.ACCOUNT_ALREADY_UNREGISTERED) {
+            return ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+        }
+        if (result == HotBalanceRepository.AMOUNT_EXCEED_BALANCE) {
+            return ErrorCode.AMOUNT_EXCEED_BALANCE;
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private static TransactionDto toTransactionDto(TransactionType transactionType, String accountNumber,
+                                                   Long amount, long balance, String transactionId,
+                                                   long transactedAtMillis) {
+        return TransactionDto.builder()
+                .accountNumber(accountNumber)
+                .transactionType(transactionType)
+                .transactionResultType(TransactionResultType.S)
+                .amount(amount)
+                .balanceSnapshot(balance)
+                .transactionId(transactionId)
+                .transactedAt(toLocalDateTime(transactedAtMillis))
+                .build();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
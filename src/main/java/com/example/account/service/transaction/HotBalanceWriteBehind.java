@@ -0,0 +1,191 @@
+package com.example.account.service.transaction;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.outbox.OutboxEvent;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.outbox.OutboxEventRepository;
+import com.example.account.repository.redis.HotBalanceEntry;
+import com.example.account.repository.redis.HotBalanceRepository;
+import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.type.transaction.TransactionResultType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 저널 -> DB 반영 (write-behind)
+ * 계좌별로 저널 앞쪽을 최대 batch-size 건씩 읽어 한 트랜잭션으로 거래를 저장하고 잔액을 맞춘 뒤,
+ * 커밋이 끝나면 저널에서 제거한다. 커밋 후 제거 전에 중단되면 같은 건을 다시 읽으므로
+ * 이미 저장된 거래 아이디는 건너뛰고, 잔액은 새로 저장한 거래 금액만큼만 더하거나 뺀다.
+ * 기동 시에는 남은 저널을 먼저 반영하고 DB 기준으로 Redis 잔액을 다시 만든다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transaction.hot-balance.enabled", havingValue = "true")
+public class HotBalanceWriteBehind {
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final HotBalanceRepository hotBalanceRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hot-balance-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HotBalanceWriteBehind(HotBalanceRepository hotBalanceRepository,
+                                 AccountRepository accountRepository,
+                                 TransactionRepository transactionRepository,
+                                 OutboxEventRepository outboxEventRepository,
+                                 ApplicationEventPublisher applicationEventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${transaction.hot-balance.batch-size:500}") int batchSize,
+                                 @Value("${transaction.hot-balance.flush-interval-ms:200}") long flushIntervalMillis) {
+        this.hotBalanceRepository = hotBalanceRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        flushAll();
+        rebuildFromDatabase();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // 반영 대기 중인 저널이 없는 계좌만 DB 값으로 덮어쓴다.
+    public void rebuildFromDatabase() {
+        int pageNumber = 0;
+        int rebuilt = 0;
+        Page<Account> page;
+        do {
+            page = accountRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            for (Account account : page) {
+                if (hotBalanceRepository.rebuild(account.getAccountNumber(), account.getAccountUser().getId(),
+                        account.getAccountStatus(), account.getBalance())) {
+                    rebuilt++;
+                }
+            }
+        } while (page.hasNext());
+        log.info("Rebuilt {} hot balances from database", rebuilt);
+    }
+
+    public void flushAll() {
+        for (String accountNumber : hotBalanceRepository.findDirtyAccountNumbers()) {
+            while (flush(accountNumber) == batchSize) {
+                // 저널이 batch-size 보다 길면 이어서 반영
+            }
+        }
+    }
+
+    // 반영한 건수
+    int flush(String accountNumber) {
+        List<HotBalanceEntry> entries = hotBalanceRepository.peekJournal(accountNumber, batchSize);
+        if (entries.isEmpty()) {
+            hotBalanceRepository.clearDirtyIfEmpty(accountNumber);
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> persist(accountNumber, entries));
+        hotBalanceRepository.trimJournal(accountNumber, entries.size());
+        if (entries.size() < batchSize) {
+            hotBalanceRepository.clearDirtyIfEmpty(accountNumber);
+        }
+        return entries.size();
+    }
+
+    private void persist(String accountNumber, List<HotBalanceEntry> entries) {
+        Account account = accountRepository.findByAccountNumber(accountNumber).orElse(null);
+        if (account == null) {
+            log.error("Dropping {} hot balance entries of unknown account {}", entries.size(), accountNumber);
+            return;
+        }
+
+        Set<String> persisted = transactionRepository.findByTransactionIdIn(
+                        entries.stream().map(HotBalanceEntry::transactionId).toList())
+                .stream().map(Transaction::getTransactionId).collect(Collectors.toSet());
+        List<HotBalanceEntry> pending = entries.stream()
+                .filter(entry -> !persisted.contains(entry.transactionId()))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Transaction> transactions = transactionRepository.saveAll(pending.stream()
+                .map(entry -> Transaction.builder()
+                        .transactionType(entry.transactionType())
+                        .transactionResultType(entry.transactionResultType())
+                        .account(account)
+                        .amount(entry.amount())
+                        .balanceSnapshot(entry.balanceSnapshot())
+                        .transactionId(entry.transactionId())
+                        .transactedAt(HotBalanceService.toLocalDateTime(entry.transactedAtMillis()))
+                        .build())
+                .toList());
+        outboxEventRepository.saveAll(transactions.stream().map(OutboxEvent::from).toList());
+
+        // 스냅샷으로 덮어쓰지 않고 이번에 저장한 성공 거래만큼 더한다. (이미 저장된 거래는 다시 더하지 않음)
+        account.setBalance(account.getBalance() + balanceDelta(pending));
+        applicationEventPublisher.publishEvent(
+                new AccountChangedEvent(account.getAccountUser().getId(), account.getId(), accountNumber,
+                        account.getAccountStatus()));
+    }
+
+    static long balanceDelta(List<HotBalanceEntry> entries) {
+        long delta = 0;
+        for (HotBalanceEntry entry : entries) {
+            if (entry.transactionResultType() == TransactionResultType.S) {
+                delta += entry.transactionType().getBalanceSign() * entry.amount();
+            }
+        }
+        return delta;
+    }
+
+    private void flushSafely() {
+        try {
+            flushAll();
+        } catch (Exception e) {
+            log.error("Failed to flush hot balances.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            flushAll();
+        } catch (Exception e) {
+            log.error("Failed to flush hot balances on shutdown.", e);
+        }
+    }
+}
@@ -2,20 +2,29 @@ package com.example.account.service.transaction;
 
 import com.example.account.domain.account.Account;
 import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.outbox.OutboxEvent;
 import com.example.account.domain.transaction.Transaction;
 import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.dto.transaction.TransferDto;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.event.BalanceChangedEvent;
 import com.example.account.exception.account.AccountException;
+import com.example.account.jfr.TransactionPersistenceEvent;
+import com.example.account.jfr.TransactionValidationEvent;
 import com.example.account.repository.account.AccountRepository;
 import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.repository.outbox.OutboxEventRepository;
 import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.service.account.AccountIndex;
 import com.example.account.type.account.AccountStatus;
 import com.example.account.type.ErrorCode;
 import com.example.account.type.transaction.TransactionResultType;
 import com.example.account.type.transaction.TransactionType;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -29,6 +38,9 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AccountUserRepository accountUserRepository;
     private final AccountRepository accountRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AccountIndex accountIndex;
 
     /**
      * 사용자가 없는 경우, 계좌가 없는 경우, 사용자 아이디와 계좌 소유주가 다른 경우,
@@ -39,98 +51,245 @@ public class TransactionService {
     // 잔액 사용 메서드
     @Transactional
     public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
-        AccountUser user = accountUserRepository.findById(userId)
-                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        return useBalance(userId, accountNumber, amount, createTransactionId());
+    }
+
+    // 거래 아이디를 미리 발급한 경우 (비동기 잔액 사용)
+    @Transactional
+    public TransactionDto useBalance(Long userId, String accountNumber, Long amount, String transactionId) {
+        TransactionValidationEvent validationEvent = new TransactionValidationEvent();
+        validationEvent.begin();
+        Account account;
+        try {
+            Long verifiedUserId = verifyUser(userId, accountNumber);
+            account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        validateUseBalance(user, account, amount);
+            validateUseBalance(verifiedUserId, account, amount);
+        } catch (AccountException e) {
+            validationEvent.finish(accountNumber, e.getErrorCode());
+            throw e;
+        }
+        validationEvent.finish(accountNumber, null);
 
         account.useBalance(amount);
+        publishAccountChanged(account);
+
+        Transaction transaction = saveAndGetTransaction(TransactionType.USE, TransactionResultType.S, account, amount,
+                transactionId);
+        publishBalanceChanged(transaction);
 
-        return TransactionDto
-                .fromEntity(saveAndGetTransaction(TransactionType.USE, TransactionResultType.S, account, amount));
+        return TransactionDto.fromEntity(transaction);
+    }
+
+    /**
+     * 계좌 인덱스로 소유자가 확인되면 사용자 조회를 건너뛰고, 해지된 계좌는 조회 없이 거절한다.
+     * 인덱스에 없거나 소유자가 다르면 기존대로 사용자를 조회한다. (USER_NOT_FOUND 와 구분)
+     * @return 확인된 사용자 아이디
+     */
+    private Long verifyUser(Long userId, String accountNumber) {
+        long entry = accountIndex.find(accountNumber);
+        if (entry == AccountIndex.MISSING || AccountIndex.userId(entry) != userId) {
+            AccountUser user = accountUserRepository.findById(userId)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.USER_NOT_FOUND));
+            return user.getId();
+        }
+        if (AccountIndex.status(entry) != AccountStatus.IN_USE) {
+            throw AccountException.of(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+        return userId;
     }
 
-    private void validateUseBalance(AccountUser user, Account account, Long amount) {
-        if (!Objects.equals(user.getId(), account.getAccountUser().getId())) {
-            throw new AccountException(ErrorCode.USER_ACCOUNT_UN_MATCH);
+    private void validateUseBalance(Long userId, Account account, Long amount) {
+        if (!Objects.equals(userId, account.getAccountUser().getId())) {
+            throw AccountException.of(ErrorCode.USER_ACCOUNT_UN_MATCH);
         }
         if (account.getAccountStatus() != AccountStatus.IN_USE) {
-            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+            throw AccountException.of(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
         }
         if (account.getBalance() < amount) {
-            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+            throw AccountException.of(ErrorCode.AMOUNT_EXCEED_BALANCE);
         }
     }
 
+    /**
+     * 이체 : 출금/입금을 한 트랜잭션에서 처리하고 거래를 한 쌍(TRANSFER_OUT, TRANSFER_IN)으로 저장
+     * 두 계좌의 락은 호출 전에 계좌번호 순서로 잡혀 있어야 한다. (@AccountLock)
+     */
+    @Transactional
+    public TransferDto transfer(Long userId, String fromAccountNumber, String toAccountNumber, Long amount) {
+        TransactionValidationEvent validationEvent = new TransactionValidationEvent();
+        validationEvent.begin();
+        Account from;
+        Account to;
+        try {
+            if (Objects.equals(fromAccountNumber, toAccountNumber)) {
+                throw AccountException.of(ErrorCode.INVALID_REQUEST);
+            }
+            Long verifiedUserId = verifyUser(userId, fromAccountNumber);
+            from = accountRepository.findByAccountNumber(fromAccountNumber)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
+            to = accountRepository.findByAccountNumber(toAccountNumber)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
+
+            validateUseBalance(verifiedUserId, from, amount);
+            if (to.getAccountStatus() != AccountStatus.IN_USE) {
+                throw AccountException.of(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+            }
+        } catch (AccountException e) {
+            validationEvent.finish(fromAccountNumber, e.getErrorCode());
+            throw e;
+        }
+        validationEvent.finish(fromAccountNumber, null);
+
+        from.useBalance(amount);
+        to.deposit(amount);
+        publishAccountChanged(from);
+        publishAccountChanged(to);
+
+        Transaction withdrawal = saveAndGetTransaction(TransactionType.TRANSFER_OUT, TransactionResultType.S, from,
+                amount, createTransactionId());
+        Transaction deposit = saveAndGetTransaction(TransactionType.TRANSFER_IN, TransactionResultType.S, to,
+                amount, createTransactionId());
+        publishBalanceChanged(withdrawal);
+        publishBalanceChanged(deposit);
+
+        return TransferDto.builder()
+                .withdrawal(TransactionDto.fromEntity(withdrawal))
+                .deposit(TransactionDto.fromEntity(deposit))
+                .build();
+    }
+
+    @Transactional
+    public void saveFailedTransferTransaction(String fromAccountNumber, Long amount) {
+        Account account = accountRepository.findByAccountNumber(fromAccountNumber)
+                .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        saveAndGetTransaction(TransactionType.TRANSFER_OUT, TransactionResultType.F, account, amount,
+                createTransactionId());
+    }
+
     @Transactional
     public void saveFailedUseTransaction(String accountNumber, Long amount) {
+        saveFailedUseTransaction(accountNumber, amount, createTransactionId());
+    }
+
+    @Transactional
+    public void saveFailedUseTransaction(String accountNumber, Long amount, String transactionId) {
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+                .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        saveAndGetTransaction(TransactionType.USE, TransactionResultType.F, account, amount);
+        saveAndGetTransaction(TransactionType.USE, TransactionResultType.F, account, amount, transactionId);
     }
 
     private Transaction saveAndGetTransaction(TransactionType transactionType,
                                               TransactionResultType transactionResultType,
                                               Account account,
-                                              Long amount) {
-        return transactionRepository.save(
-                Transaction.builder()
-                        .transactionType(transactionType)
-                        .transactionResultType(transactionResultType)
-                        .account(account)
-                        .amount(amount)
-                        .balanceSnapshot(account.getBalance())
-                        .transactionId(UUID.randomUUID().toString().replace("-", ""))
-                        .transactedAt(LocalDateTime.now())
-                        .build());
+                                              Long amount,
+                                              String transactionId) {
+        TransactionPersistenceEvent persistenceEvent = new TransactionPersistenceEvent();
+        persistenceEvent.begin();
+        try {
+            Transaction transaction = transactionRepository.save(
+                    Transaction.builder()
+                            .transactionType(transactionType)
+                            .transactionResultType(transactionResultType)
+                            .account(account)
+                            .amount(amount)
+                            .balanceSnapshot(account.getBalance())
+                            .transactionId(transactionId)
+                            .transactedAt(LocalDateTime.now())
+                            .build());
+            // 같은 트랜잭션에서 아웃박스 기록 (OutboxRelay 가 발행)
+            outboxEventRepository.save(OutboxEvent.from(transaction));
+            return transaction;
+        } finally {
+            persistenceEvent.finish(account.getAccountNumber(), null);
+        }
+    }
+
+    private void publishAccountChanged(Account account) {
+        applicationEventPublisher.publishEvent(
+                new AccountChangedEvent(account.getAccountUser().getId(), account.getId(), account.getAccountNumber(),
+                        account.getAccountStatus()));
+    }
+
+    private void publishBalanceChanged(Transaction transaction) {
+        applicationEventPublisher.publishEvent(new BalanceChangedEvent(
+                transaction.getAccount().getAccountNumber(),
+                transaction.getTransactionType(),
+                transaction.getTransactionId(),
+                transaction.getAmount(),
+                transaction.getBalanceSnapshot(),
+                transaction.getTransactedAt()));
+    }
+
+    // 거래 아이디 생성
+    public static String createTransactionId() {
+        return UUID.randomUUID().toString().replace("-", "");
     }
 
     @Transactional
     public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
-        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        TransactionValidationEvent validationEvent = new TransactionValidationEvent();
+        validationEvent.begin();
+        Account account;
+        try {
+            Transaction transaction = transactionRepository.findByTransactionId(transactionId)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.TRANSACTION_NOT_FOUND));
+            account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        validateCancelBalance(transaction, account, amount);
+            validateCancelBalance(transaction, account, amount);
+        } catch (AccountException e) {
+            validationEvent.finish(accountNumber, e.getErrorCode());
+            throw e;
+        }
+        validationEvent.finish(accountNumber, null);
 
         account.cancelBalance(amount);
+        publishAccountChanged(account);
 
-        return TransactionDto.fromEntity(
-                saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.S, account, amount)
-        );
+        Transaction transaction = saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.S, account, amount,
+                createTransactionId());
+        publishBalanceChanged(transaction);
+
+        return TransactionDto.fromEntity(transaction);
 
     }
 
     private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
+        // 이체 출금/입금, 실패 거래, 취소 거래는 취소 대상이 아니다.
+        if (transaction.getTransactionType() != TransactionType.USE
+                || transaction.getTransactionResultType() != TransactionResultType.S) {
+            throw AccountException.of(ErrorCode.CANCEL_NOT_ALLOWED_TRANSACTION);
+        }
         if (!Objects.equals(transaction.getAccount().getId(), account.getId())) {
-            throw new AccountException(ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH);
+            throw AccountException.of(ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH);
         }
         if (!Objects.equals(transaction.getAmount(), amount)) {
-            throw new AccountException(ErrorCode.CANCEL_MUST_FULLY);
+            throw AccountException.of(ErrorCode.CANCEL_MUST_FULLY);
         }
         if (transaction.getTransactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
-            throw new AccountException(ErrorCode.TOO_OLD_ORDER_TO_CANCEL);
+            throw AccountException.of(ErrorCode.TOO_OLD_ORDER_TO_CANCEL);
         }
     }
 
     @Transactional
     public void saveFailedCancelTransaction(String accountNumber, Long amount) {
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+                .orElseThrow(() -> AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.S, account, amount);
+        saveAndGetTransaction(TransactionType.CANCEL, TransactionResultType.F, account, amount,
+                createTransactionId());
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     public TransactionDto queryTransaction(String transactionId) {
         return TransactionDto.fromEntity(
                 transactionRepository.findByTransactionId(transactionId)
-                        .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND))
+                        .orElseThrow(() -> AccountException.of(ErrorCode.TRANSACTION_NOT_FOUND))
         );
     }
 }
\ No newline at end of file
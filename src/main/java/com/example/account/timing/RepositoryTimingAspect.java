@@ -0,0 +1,27 @@
+package com.example.account.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 호출 시간을 DB 시간으로 누적한다.
+ * 커밋 시점의 flush(update) 는 저장소 호출 밖에서 실행되므로 포함되지 않는다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class RepositoryTimingAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object aroundRepository(ProceedingJoinPoint pjp) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            RequestTimings.addDb(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.account.timing;
+
+/**
+ * 요청 단위 구간 시간 누적 버퍼 (Server-Timing)
+ * 스레드마다 하나의 버퍼를 재사용하므로 누적 과정에서 객체를 생성하지 않는다.
+ * ServerTimingFilter 가 start() / stop() 하는 동안만 값을 누적한다.
+ */
+public final class RequestTimings {
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> BUFFER = ThreadLocal.withInitial(RequestTimings::new);
+
+    private boolean active;
+    private long lockWaitNanos;
+    private long lockHoldNanos;
+    private long dbNanos;
+    private int statementCount;
+    private long serializationNanos;
+    private final StringBuilder header = new StringBuilder(128);
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = BUFFER.get();
+        timings.active = true;
+        timings.lockWaitNanos = 0;
+        timings.lockHoldNanos = 0;
+        timings.dbNanos = 0;
+        timings.statementCount = 0;
+        timings.serializationNanos = 0;
+        return timings;
+    }
+
+    public void stop() {
+        active = false;
+    }
+
+    // 측정 중인 요청 스레드이면 버퍼, 아니면 null (비동기/스트리밍 전송 스레드 등)
+    public static RequestTimings current() {
+        RequestTimings timings = BUFFER.get();
+        return timings.active ? timings : null;
+    }
+
+    public static void addLockWait(long nanos) {
+        RequestTimings timings = BUFFER.get();
+        if (timings.active) {
+            timings.lockWaitNanos += nanos;
+        }
+    }
+
+    public static void addLockHold(long nanos) {
+        RequestTimings timings = BUFFER.get();
+        if (timings.active) {
+            timings.lockHoldNanos += nanos;
+        }
+    }
+
+    public static void addDb(long nanos) {
+        RequestTimings timings = BUFFER.get();
+        if (timings.active) {
+            timings.dbNanos += nanos;
+        }
+    }
+
+    public static void addStatement() {
+        RequestTimings timings = BUFFER.get();
+        if (timings.active) {
+            timings.statementCount++;
+        }
+    }
+
+    public static void addSerialization(long nanos) {
+        RequestTimings timings = BUFFER.get();
+        if (timings.active) {
+            timings.serializationNanos += nanos;
+        }
+    }
+
+    /**
+     * Server-Timing: lock-wait;dur=0.12, lock-hold;dur=3.40, db;dur=2.10, stmt;desc="4", ser;dur=0.08
+     */
+    public String toHeaderValue() {
+        header.setLength(0);
+        appendDuration("lock-wait", lockWaitNanos).append(", ");
+        appendDuration("lock-hold", lockHoldNanos).append(", ");
+        appendDuration("db", dbNanos).append(", ");
+        header.append("stmt;desc=\"").append(statementCount).append("\", ");
+        appendDuration("ser", serializationNanos);
+        return header.toString();
+    }
+
+    // 밀리초, 소수점 2자리
+    private StringBuilder appendDuration(String name, long nanos) {
+        long hundredths = nanos / 10_000;
+        header.append(name).append(";dur=").append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            header.append('0');
+        }
+        return header.append(fraction);
+    }
+}
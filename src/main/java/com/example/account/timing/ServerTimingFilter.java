@@ -0,0 +1,39 @@
+package com.example.account.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * server-timing.enabled=true 인 경우 응답에 Server-Timing 헤더를 추가한다.
+ * 응답 본문을 버퍼링하지 않고, 본문이 커밋되기 전에 헤더를 쓴다.
+ * - JSON 본문 : SerializationTimingMessageConverter 가 직렬화 직후 (직렬화 시간 포함)
+ * - 그 외 본문 : ServerTimingResponseAdvice 가 본문을 쓰기 직전
+ * - 본문이 없는 응답 : 여기서 요청 처리 직후 (아직 커밋되지 않은 경우)
+ * 비동기/스트리밍 응답은 요청 스레드를 벗어나 전송되므로 측정하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+            if (!request.isAsyncStarted() && !response.isCommitted()
+                    && !response.containsHeader(RequestTimings.HEADER)) {
+                response.setHeader(RequestTimings.HEADER, timings.toHeaderValue());
+            }
+        } finally {
+            timings.stop();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.account.timing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 요청 중 실행된 SQL 문 개수
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.addStatement();
+        return sql;
+    }
+}
@@ -2,24 +2,30 @@ package com.example.account.type;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 @AllArgsConstructor
 public enum ErrorCode {
-    INTERNAL_SERVER_ERROR("내부 서버 오류가 발생했습니다."),
-    INVALID_REQUEST("잘못된 요청입니다."),
-    USER_NOT_FOUND("사용자가 없습니다."),
-    ACCOUNT_NOT_FOUND("계좌가 없습니다."),
-    ACCOUNT_TRANSACTION_LOCK("해당 계좌는 사용 중입니다."),
-    TRANSACTION_NOT_FOUND("해당 거래가 없습니다."),
-    AMOUNT_EXCEED_BALANCE("거래 금액이 계좌 잔액보다 큽니다."),
-    TRANSACTION_ACCOUNT_UN_MATCH("이 거래는 해당 계좌에서 발생한 거래가 아닙니다."),
-    CANCEL_MUST_FULLY("부분 취소는 허용되지 않습니다."),
-    TOO_OLD_ORDER_TO_CANCEL("1년이 지난 거래는 취소가 불가능합니다."),
-    USER_ACCOUNT_UN_MATCH("사용자와 계좌의 소유주가 다릅니다."),
-    ACCOUNT_ALREADY_UNREGISTERED("계좌가 이미 해지되었습니다."),
-    BALANCE_NOT_EMPTY("잔액이 있는 계좌는 해지할 수 없습니다."),
-    MAX_ACCOUNT_PER_USER_10("사용자 최대 계좌는 10개입니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생했습니다."),
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자가 없습니다."),
+    ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "계좌가 없습니다."),
+    ACCOUNT_TRANSACTION_LOCK(HttpStatus.CONFLICT, "해당 계좌는 사용 중입니다."),
+    TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 거래가 없습니다."),
+    AMOUNT_EXCEED_BALANCE(HttpStatus.UNPROCESSABLE_ENTITY, "거래 금액이 계좌 잔액보다 큽니다."),
+    TRANSACTION_ACCOUNT_UN_MATCH(HttpStatus.UNPROCESSABLE_ENTITY, "이 거래는 해당 계좌에서 발생한 거래가 아닙니다."),
+    CANCEL_MUST_FULLY(HttpStatus.UNPROCESSABLE_ENTITY, "부분 취소는 허용되지 않습니다."),
+    CANCEL_NOT_ALLOWED_TRANSACTION(HttpStatus.UNPROCESSABLE_ENTITY, "성공한 잔액 사용 거래만 취소할 수 있습니다."),
+    TOO_OLD_ORDER_TO_CANCEL(HttpStatus.UNPROCESSABLE_ENTITY, "1년이 지난 거래는 취소가 불가능합니다."),
+    USER_ACCOUNT_UN_MATCH(HttpStatus.FORBIDDEN, "사용자와 계좌의 소유주가 다릅니다."),
+    ACCOUNT_ALREADY_UNREGISTERED(HttpStatus.CONFLICT, "계좌가 이미 해지되었습니다."),
+    BALANCE_NOT_EMPTY(HttpStatus.CONFLICT, "잔액이 있는 계좌는 해지할 수 없습니다."),
+    MAX_ACCOUNT_PER_USER_10(HttpStatus.CONFLICT, "사용자 최대 계좌는 10개입니다."),
+    TRANSACTION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 거래가 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    HOT_BALANCE_MODE_UNSUPPORTED(HttpStatus.CONFLICT, "Redis 잔액 모드에서는 지원하지 않는 요청입니다.");
 
+    private final HttpStatus httpStatus;
     private final String description;
 }
@@ -0,0 +1,6 @@
+package com.example.account.type.account;
+
+public enum ImportFormat {
+    CSV, // name 한 열 (첫 줄이 name 이면 헤더로 건너뜀)
+    NDJSON // 한 줄에 {"name" : "..."} 하나
+}
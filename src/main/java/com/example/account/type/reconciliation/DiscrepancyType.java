@@ -0,0 +1,7 @@
+package com.example.account.type.reconciliation;
+
+public enum DiscrepancyType {
+    SNAPSHOT_CHAIN_BROKEN, // 성공 거래의 잔액 스냅샷 != 직전 잔액 ± 금액
+    FAILED_SNAPSHOT_MISMATCH, // 실패 거래의 잔액 스냅샷 != 직전 잔액
+    BALANCE_MISMATCH // 계좌 잔액 != 마지막 거래 이후 잔액
+}
@@ -1,5 +1,7 @@
 package com.example.account.type.transaction;
 
 public enum TransactionResultType {
-    S, F
+    S, // 성공
+    F, // 실패
+    P // 처리 대기 (비동기 잔액 사용)
 }
@@ -1,5 +1,15 @@
 package com.example.account.type.transaction;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
 public enum TransactionType {
-    USE, CANCEL
+    USE(-1), CANCEL(1),
+    TRANSFER_OUT(-1), // 이체 출금
+    TRANSFER_IN(1); // 이체 입금
+
+    // 성공 시 잔액 변화 방향 (-1 : 차감, 1 : 증가)
+    private final int balanceSign;
 }
@@ -0,0 +1,81 @@
+package com.example.account.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 고정 크기 버퍼로 한 줄씩 읽는 리더
+ * BufferedReader.readLine 과 달리 한 줄의 길이를 maxLineLength 로 제한하므로
+ * 줄바꿈이 없는 입력이 들어와도 메모리가 늘어나지 않는다.
+ * 제한을 넘는 줄은 앞부분만 반환하고 나머지는 버리며, isTruncated() 가 true 가 된다.
+ */
+public class BoundedLineReader implements Closeable {
+    private final Reader reader;
+    private final char[] buffer;
+    private final int maxLineLength;
+    private final StringBuilder line;
+    private int position;
+    private int limit;
+    private boolean truncated;
+
+    public BoundedLineReader(Reader reader, int bufferSize, int maxLineLength) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+        this.maxLineLength = maxLineLength;
+        this.line = new StringBuilder(maxLineLength);
+    }
+
+    // 줄바꿈(\n, \r\n)을 뺀 다음 줄, 입력 끝이면 null
+    public String readLine() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    return read ? finishLine() : null;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                position++;
+                return finishLine();
+            }
+        }
+    }
+
+    // 마지막으로 읽은 줄이 잘렸는지
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    private void append(int start, int count) {
+        int room = maxLineLength - line.length();
+        if (count > room) {
+            truncated = true;
+            count = room;
+        }
+        line.append(buffer, start, count);
+    }
+
+    private String finishLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
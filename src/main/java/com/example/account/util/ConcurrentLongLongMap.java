@@ -0,0 +1,182 @@
+package com.example.account.util;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long -> long 오픈 어드레싱(선형 탐사) 해시 맵
+ * 박싱 없이 키/값을 배열 두 개에 저장한다.
+ * 조회는 낙관적 읽기(StampedLock)로 락 없이 처리하고, 쓰기만 락을 잡는다.
+ * 키 0 은 빈 슬롯 표시로 사용하므로 저장할 수 없다.
+ */
+public class ConcurrentLongLongMap {
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    public ConcurrentLongLongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public ConcurrentLongLongMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2));
+        keys = new long[capacity];
+        values = new long[capacity];
+    }
+
+    public long get(long key, long defaultValue) {
+        checkKey(key);
+        long stamp = lock.tryOptimisticRead();
+        long value = find(keys, values, key, defaultValue);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, key, defaultValue);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long key, long value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            values[slotFor(key)] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 값이 없으면 0 에서 시작한다.
+    public long incrementAndGet(long key) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotFor(key);
+            return ++values[slot];
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long key) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int mask = keys.length - 1;
+            int slot = indexOf(key, mask);
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // 뒤쪽 슬롯을 당겨서 탐사 체인을 유지한다. (backward shift deletion)
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = indexOf(keys[next], mask);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = EMPTY;
+            values[hole] = 0L;
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 키의 슬롯을 찾고 없으면 새로 차지한다. (쓰기 락 안에서 호출)
+    private int slotFor(long key) {
+        int mask = keys.length - 1;
+        int slot = indexOf(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+            return slotFor(key);
+        }
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    // 점유율 50% 를 넘으면 두 배로 늘린다.
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] newKeys = new long[oldKeys.length * 2];
+        long[] newValues = new long[oldValues.length * 2];
+        int mask = newKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = indexOf(oldKeys[i], mask);
+                while (newKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = oldKeys[i];
+                newValues[slot] = oldValues[i];
+            }
+        }
+        values = newValues;
+        keys = newKeys;
+    }
+
+    private static long find(long[] keys, long[] values, long key, long defaultValue) {
+        // 낙관적 읽기 중 배열이 교체될 수 있으므로 길이가 다르면 실패로 보고 재시도하게 한다.
+        if (keys.length != values.length) {
+            return defaultValue;
+        }
+        int mask = keys.length - 1;
+        int slot = indexOf(key, mask);
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return defaultValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    private static int indexOf(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key must not be 0");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.account.util;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * long 키별 토큰 버킷 (GCRA : 키마다 다음 토큰 도착 예정 시각 하나만 저장)
+ * 키의 해시로 나눈 stripe 마다 락과 오픈 어드레싱 배열을 따로 두어 경합을 나눈다.
+ * 토큰은 요청 시점에 경과 시간만큼 채운 것으로 계산하므로 타이머 스레드가 없다.
+ * 다 채워진 채로 idle 시간이 지난 버킷은 해당 stripe 에 접근할 때 주기적으로 정리한다.
+ * (다 채워진 버킷은 새 버킷과 같으므로 지워도 한도가 바뀌지 않는다.)
+ */
+public class StripedTokenBucket {
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long idleNanos;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst         버킷 크기 (연속으로 허용하는 요청 수)
+     * @param idleMillis    이 시간 동안 쓰이지 않은 (다 채워진) 버킷은 정리
+     * @param stripes       stripe 수 (2의 거듭제곱으로 올림)
+     */
+    public StripedTokenBucket(double ratePerSecond, int burst, long idleMillis, int stripes) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("ratePerSecond and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.idleNanos = Math.max(idleMillis * 1_000_000L, burstToleranceNanos + emissionIntervalNanos);
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(System.nanoTime());
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    public boolean tryAcquire(long key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(long key, long now) {
+        if (key == EMPTY) {
+            key = Long.MIN_VALUE;
+        }
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        stripe.lock.lock();
+        try {
+            if (now - stripe.lastSweepAt >= idleNanos) {
+                stripe.sweep(now);
+            }
+            int slot = stripe.slotFor(key, hash, now);
+            long tat = stripe.tats[slot];
+            if (now - tat > 0) {
+                tat = now;
+            }
+            if (tat - now > burstToleranceNanos) {
+                return false;
+            }
+            stripe.tats[slot] = tat + emissionIntervalNanos;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 토큰을 소비하지 않고 지금 얻을 수 있는지만 확인 (없는 버킷은 만들지 않는다)
+    public boolean canAcquire(long key) {
+        return canAcquire(key, System.nanoTime());
+    }
+
+    boolean canAcquire(long key, long now) {
+        if (key == EMPTY) {
+            key = Long.MIN_VALUE;
+        }
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        stripe.lock.lock();
+        try {
+            int slot = stripe.find(key, hash);
+            return slot < 0 || stripe.tats[slot] - now <= burstToleranceNanos;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // tryAcquire 로 얻은 토큰 하나를 되돌린다. (함께 확인한 다른 한도에 걸려 요청을 거절하는 경우)
+    public void release(long key) {
+        if (key == EMPTY) {
+            key = Long.MIN_VALUE;
+        }
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        stripe.lock.lock();
+        try {
+            int slot = stripe.find(key, hash);
+            if (slot >= 0) {
+                stripe.tats[slot] -= emissionIntervalNanos;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 현재 보관 중인 버킷 수
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.size;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] keys = new long[INITIAL_STRIPE_CAPACITY];
+        private long[] tats = new long[INITIAL_STRIPE_CAPACITY];
+        private int size;
+        private long lastSweepAt;
+
+        private Stripe(long now) {
+            this.lastSweepAt = now;
+        }
+
+        // 없으면 -1
+        private int find(long key, long hash) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        // 없으면 now 를 도착 예정 시각으로 새 버킷을 만든다. (다 채워진 버킷)
+        private int slotFor(long key, long hash, long now) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                sweep(now);
+                if ((size + 1) * 2 > keys.length) {
+                    rehash(keys.length * 2, now);
+                }
+                return slotFor(key, hash, now);
+            }
+            keys[slot] = key;
+            tats[slot] = now;
+            size++;
+            return slot;
+        }
+
+        private void sweep(long now) {
+            rehash(keys.length, now);
+            lastSweepAt = now;
+        }
+
+        // idle 버킷을 빼고 다시 배치
+        private void rehash(int capacity, long now) {
+            long[] oldKeys = keys;
+            long[] oldTats = tats;
+            keys = new long[capacity];
+            tats = new long[capacity];
+            size = 0;
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY || now - oldTats[i] >= idleNanos) {
+                    continue;
+                }
+                int slot = (int) mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                tats[slot] = oldTats[i];
+                size++;
+            }
+        }
+    }
+}
@@ -5,4 +5,6 @@ insert into account_user(id, name, created_at, updated_at)
 values (2, 'Lupi', now(), now());
 
 insert into account_user(id, name, created_at, updated_at)
-values (3, 'Eddie', now(), now());
\ No newline at end of file
+values (3, 'Eddie', now(), now());
+-- 위에서 직접 넣은 id 와 시퀀스로 발급하는 id (사용자 가져오기 등) 가 겹치지 않도록
+alter sequence account_user_seq restart with 1000001;
@@ -0,0 +1,32 @@
+package com.example.account.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReactiveDatabaseConfigTest {
+
+    @Test
+    @DisplayName("JDBC 주소에서 같은 DB 를 보는 R2DBC 주소 생성")
+    void toR2dbcUrl() {
+        // when
+        // then
+        assertEquals("r2dbc:h2:mem:///test", ReactiveDatabaseConfig.toR2dbcUrl("jdbc:h2:mem:test"));
+        assertEquals("r2dbc:h2:mem:///routing-config;DB_CLOSE_DELAY=-1",
+                ReactiveDatabaseConfig.toR2dbcUrl("jdbc:h2:mem:routing-config;DB_CLOSE_DELAY=-1"));
+        assertEquals("r2dbc:h2:file:///./data/account",
+                ReactiveDatabaseConfig.toR2dbcUrl("jdbc:h2:file:./data/account"));
+        assertEquals("r2dbc:postgresql://localhost:5432/account",
+                ReactiveDatabaseConfig.toR2dbcUrl("jdbc:postgresql://localhost:5432/account"));
+    }
+
+    @Test
+    @DisplayName("JDBC 주소가 아니면 기동 실패 (reactive.r2dbc.url 을 직접 지정해야 함)")
+    void failWhenNotJdbcUrl() {
+        // when
+        // then
+        assertThrows(IllegalStateException.class, () -> ReactiveDatabaseConfig.toR2dbcUrl("h2:mem:test"));
+    }
+}
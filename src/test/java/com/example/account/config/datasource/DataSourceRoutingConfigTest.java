@@ -0,0 +1,62 @@
+package com.example.account.config.datasource;
+
+import com.example.account.dto.account.AccountDto;
+import com.example.account.service.account.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 다른 컨텍스트와 DB/Redis 포트가 겹치지 않도록 분리
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing-config;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:routing-config-replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.max-lag-ms=0",
+        "spring.redis.port=16381"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Test
+    @DisplayName("라우팅 사용 - 읽기 전용 조회는 원본 테이블이 연결된 별도 복제본 인스턴스에서 처리")
+    void readOnlyQueryOnReplica() throws InterruptedException {
+        // given
+        String accountNumber = accountService.createdAccount(1L, 1000L).getAccountNumber();
+        Thread.sleep(10L);
+        // 복제본의 계좌 테이블만 원본 연결 대신 잔액이 다른 복사본으로 바꿔, 어느 인스턴스에서 읽었는지 구분한다.
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("create table account_copy as select * from account");
+        replica.execute("drop table account");
+        replica.execute("alter table account_copy rename to account");
+        replica.update("update account set balance = 2000 where account_number = ?", accountNumber);
+
+        // when
+        List<AccountDto> accounts = accountService.getAccountsByUserId(1L);
+
+        // then
+        assertEquals(1, accounts.size());
+        assertEquals(2000L, accounts.get(0).getBalance());
+        assertEquals(1000L, new JdbcTemplate(primaryDataSource).queryForObject(
+                "select balance from account where account_number = ?", Long.class, accountNumber));
+    }
+}
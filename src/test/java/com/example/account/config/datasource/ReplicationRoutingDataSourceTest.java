@@ -0,0 +1,119 @@
+package com.example.account.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTemplate;
+    private TransactionTemplate readWriteTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 두 개의 H2 인스턴스
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, new ReplicaLagGuard(200L, 5000L)));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        readWriteTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 -> 복제본")
+    void readOnlyGoesToReplica() {
+        // when
+        String name = readOnlyTemplate.execute(status -> currentName());
+
+        // then
+        assertEquals("routing_replica", name);
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 트랜잭션 -> 원본")
+    void readWriteGoesToPrimary() {
+        // when
+        String name = readWriteTemplate.execute(status -> currentName());
+
+        // then
+        assertEquals("routing_primary", name);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 읽기 -> 복제 지연 가드로 원본")
+    void readAfterWriteGoesToPrimary() throws InterruptedException {
+        // given
+        readWriteTemplate.executeWithoutResult(status -> currentName());
+
+        // when
+        String justAfterWrite = readOnlyTemplate.execute(status -> currentName());
+        Thread.sleep(300L);
+        String afterLag = readOnlyTemplate.execute(status -> currentName());
+
+        // then
+        assertEquals("routing_primary", justAfterWrite);
+        assertEquals("routing_replica", afterLag);
+    }
+
+    @Test
+    @DisplayName("다른 쓴 쪽의 쓰기 직후 읽기 -> 복제본 (쓴 쪽만 원본에서 읽음)")
+    void readAfterOtherWriterGoesToReplica() throws InterruptedException {
+        // given
+        Thread writer = new Thread(() -> readWriteTemplate.executeWithoutResult(status -> currentName()));
+        writer.start();
+        writer.join();
+
+        // when
+        String name = readOnlyTemplate.execute(status -> currentName());
+
+        // then
+        assertEquals("routing_replica", name);
+    }
+
+    @Test
+    @DisplayName("복제본 장애 -> 원본으로 페일오버")
+    void failOverToPrimary() {
+        // given
+        DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/none");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(h2("routing_primary"), broken, new ReplicaLagGuard(0L, 5000L)));
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(true);
+
+        // when
+        String name = template.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("select name from marker", String.class));
+
+        // then
+        assertEquals("routing_primary", name);
+    }
+
+    private String currentName() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists marker(name varchar(32))");
+        template.execute("delete from marker");
+        template.update("insert into marker(name) values (?)", name);
+        return dataSource;
+    }
+}
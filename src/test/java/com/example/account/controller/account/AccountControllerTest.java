@@ -5,7 +5,10 @@ import com.example.account.dto.account.AccountDto;
 import com.example.account.dto.account.CreateAccount;
 import com.example.account.dto.account.DeleteAccount;
 import com.example.account.exception.account.AccountException;
+import com.example.account.service.account.AccountQueryCoalescer;
 import com.example.account.service.account.AccountService;
+import com.example.account.service.account.AccountVersionService;
+import com.example.account.service.account.OffHeapBalanceCache;
 import com.example.account.type.ErrorCode;
 import com.example.account.type.account.AccountStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -24,16 +29,26 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
+@Import({AccountQueryCoalescer.class, AccountVersionService.class})
 class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private OffHeapBalanceCache offHeapBalanceCache;
+
+    @Autowired
+    private AccountVersionService accountVersionService;
+
 
     @Autowired
     private MockMvc mockMvc;
@@ -241,7 +256,22 @@ class AccountControllerTest {
         // then
         mockMvc.perform(get("/account/876"))
                 .andDo(print())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode").value("ACCOUNT_NOT_FOUND"))
                 .andExpect(jsonPath("$.errorMessage").value("계좌가 없습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /account/{id} - If-None-Match 가 일치하면 304 이고 조회하지 않음")
+    void notModifiedGetAccount() throws Exception {
+        // given
+        String eTag = accountVersionService.accountETag(876L);
+        // when
+        // then
+        mockMvc.perform(get("/account/876").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(accountService, never()).getAccount(anyLong());
+    }
+}
@@ -5,6 +5,7 @@ import com.example.account.dto.transaction.TransactionDto;
 import com.example.account.dto.transaction.UseBalance;
 import com.example.account.exception.account.AccountException;
 import com.example.account.exception.transaction.TransactionException;
+import com.example.account.service.transaction.AsyncUseBalanceService;
 import com.example.account.service.transaction.TransactionService;
 import com.example.account.type.ErrorCode;
 import com.example.account.type.transaction.TransactionResultType;
@@ -19,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -35,6 +37,9 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private AsyncUseBalanceService asyncUseBalanceService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -225,4 +230,48 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.errorMessage").value("계좌가 이미 해지되었습니다."));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("비동기 잔액사용 - 접수 (202)")
+    void acceptUseBalanceAsync() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(post("/transaction/use/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                UseBalance.Request.builder()
+                                        .userId(1L)
+                                        .accountNumber("2000000000")
+                                        .amount(3000L)
+                                        .build())))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accountNumber").value("2000000000"))
+                .andExpect(jsonPath("$.transactionResult").value("P"))
+                .andExpect(jsonPath("$.transactionId").isNotEmpty())
+                .andExpect(jsonPath("$.amount").value(3000L));
+    }
+
+    @Test
+    @DisplayName("잔액 사용확인 - 처리 대기 중인 비동기 거래")
+    void queryPendingTransaction() throws Exception {
+        // given
+        given(asyncUseBalanceService.findPending(anyString()))
+                .willReturn(Optional.of(TransactionDto.builder()
+                        .accountNumber("1000000000")
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.P)
+                        .transactedAt(LocalDateTime.now())
+                        .amount(3000L)
+                        .transactionId("pendingTransactionId")
+                        .build()));
+
+        // when
+        // then
+        mockMvc.perform(get("/transaction/pendingTransactionId"))
+                .andDo(print())
+                .andExpect(jsonPath("$.transactionResult").value("P"))
+                .andExpect(jsonPath("$.transactionId").value("pendingTransactionId"));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.account.domain;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.domain.converter.TransactionIdConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactColumnConverterTest {
+    private final AccountNumberConverter accountNumberConverter = new AccountNumberConverter();
+    private final TransactionIdConverter transactionIdConverter = new TransactionIdConverter();
+
+    @Test
+    @DisplayName("계좌번호 <-> BIGINT, 앞자리 0 유지")
+    void accountNumberRoundTrip() {
+        // given
+        // when
+        Long column = accountNumberConverter.convertToDatabaseColumn("0000012345");
+
+        // then
+        assertEquals(12345L, column);
+        assertEquals("0000012345", accountNumberConverter.convertToEntityAttribute(column));
+        assertEquals("9999999999",
+                accountNumberConverter.convertToEntityAttribute(
+                        accountNumberConverter.convertToDatabaseColumn("9999999999")));
+    }
+
+    @Test
+    @DisplayName("숫자 10자리가 아닌 계좌번호는 null (일치하는 행 없음)")
+    void malformedAccountNumber() {
+        // given
+        // when
+        // then
+        assertNull(accountNumberConverter.convertToDatabaseColumn(null));
+        assertNull(accountNumberConverter.convertToDatabaseColumn("123456789"));
+        assertNull(accountNumberConverter.convertToDatabaseColumn("12345678901"));
+        assertNull(accountNumberConverter.convertToDatabaseColumn("12345abcde"));
+        assertNull(accountNumberConverter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("거래 아이디 <-> 16바이트, 소문자 16진수로 복원")
+    void transactionIdRoundTrip() {
+        // given
+        String transactionId = UUID.randomUUID().toString().replace("-", "");
+
+        // when
+        byte[] column = transactionIdConverter.convertToDatabaseColumn(transactionId.toUpperCase());
+
+        // then
+        assertEquals(16, column.length);
+        assertEquals(transactionId, transactionIdConverter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    @DisplayName("32자리 16진수가 아닌 거래 아이디는 null (일치하는 행 없음)")
+    void malformedTransactionId() {
+        // given
+        // when
+        // then
+        assertNull(transactionIdConverter.convertToDatabaseColumn(null));
+        assertNull(transactionIdConverter.convertToDatabaseColumn("abc"));
+        assertNull(transactionIdConverter.convertToDatabaseColumn("g".repeat(32)));
+        assertNull(transactionIdConverter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.account.exception;
+
+import com.example.account.exception.account.AccountException;
+import com.example.account.exception.transaction.TransactionException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessExceptionTest {
+
+    @Test
+    @DisplayName("모든 생성자가 스택 트레이스를 수집하지 않는다")
+    void stackless() {
+        // given
+        RuntimeException[] exceptions = {
+                AccountException.of(ErrorCode.ACCOUNT_NOT_FOUND),
+                new AccountException(ErrorCode.ACCOUNT_NOT_FOUND),
+                new AccountException(ErrorCode.INVALID_REQUEST, "계좌번호 형식이 올바르지 않습니다."),
+                TransactionException.of(ErrorCode.TRANSACTION_NOT_FOUND),
+                new TransactionException(ErrorCode.TRANSACTION_NOT_FOUND),
+                new TransactionException(ErrorCode.TOO_OLD_ORDER_TO_CANCEL, "취소 불가")
+        };
+
+        for (RuntimeException exception : exceptions) {
+            // when
+            exception.fillInStackTrace();
+
+            // then
+            assertEquals(0, exception.getStackTrace().length);
+        }
+    }
+
+    @Test
+    @DisplayName("메시지를 지정한 생성자 - ErrorCode 와 메시지 유지")
+    void customMessage() {
+        // when
+        AccountException exception = new AccountException(ErrorCode.INVALID_REQUEST, "잘못된 계좌번호");
+
+        // then
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        assertEquals("잘못된 계좌번호", exception.getErrorMessage());
+        assertEquals("잘못된 계좌번호", exception.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.account.jfr;
+
+import com.example.account.dto.account.CreateAccount;
+import com.example.account.dto.transaction.Transfer;
+import com.example.account.type.ErrorCode;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializationEventTest {
+    private static final String EVENT_NAME = "com.example.account.Serialization";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("응답 계좌번호 해시와 미리 직렬화한 오류 본문의 ErrorCode 를 기록")
+    void populateHashAndErrorCode() throws IOException {
+        // given
+        Path file = tempDir.resolve("serialization.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            finish(CreateAccount.Response.builder().accountNumber("1000000001").build());
+            finish(Transfer.Response.builder().fromAccountNumber("1000000002").build());
+            SerializationEvent.preSerialized(ErrorCode.ACCOUNT_NOT_FOUND);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> EVENT_NAME.equals(event.getEventType().getName()))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+
+        // then
+        assertEquals(3, events.size());
+        assertEquals("1000000001".hashCode(), events.get(0).getInt("accountNumberHash"));
+        assertEquals("1000000002".hashCode(), events.get(1).getInt("accountNumberHash"));
+        assertEquals("ErrorResponse", events.get(2).getString("responseType"));
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND.name(), events.get(2).getString("errorCode"));
+    }
+
+    private static void finish(Object body) {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        event.finish(body);
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.account.load;
+
+import com.example.account.domain.account.Account;
+import com.example.account.dto.account.AccountDto;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.service.account.AccountService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 임베디드 Redis + H2 로 애플리케이션을 띄우고 여러 클라이언트 스레드에서
+ * 잔액 사용 / 취소 / 조회 / 계좌 생성 요청을 섞어서 보내는 부하 테스트
+ * 1. 처리량, 요청 종류별 지연 시간 분포 (HdrHistogram)
+ * 2. 락 획득 실패율 (ACCOUNT_TRANSACTION_LOCK)
+ * 3. 종료 후 계좌 잔액 = 초기 잔액 - 사용 성공 금액 + 취소 성공 금액
+ * ./gradlew loadTest 로 실행 (설정은 LoadProfile 참고)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "transaction.use.delay-ms=0",
+        "rate-limit.enabled=false",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class ConcurrentLoadHarnessTest {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentLoadHarnessTest.class);
+    private static final long FIRST_USER_ID = 1_000L;
+    private static final String LOCK_REJECTED = "ACCOUNT_TRANSACTION_LOCK";
+
+    private enum Operation {
+        USE, CANCEL, QUERY, CREATE
+    }
+
+    // ledger : 성공한 사용/취소 금액의 합 (초기 잔액 대비 변화량)
+    private record Seed(long userId, String accountNumber, AtomicLong ledger,
+                        ConcurrentLinkedDeque<Cancelable> cancelables) {
+    }
+
+    private record Cancelable(String transactionId, long amount) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> successes = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> failures = new EnumMap<>(Operation.class);
+    private final AtomicLong lockRejections = new AtomicLong();
+
+    @Test
+    @DisplayName("동시 부하 - 처리량, 지연 시간, 락 실패율, 잔액 정합성")
+    void runLoad() throws Exception {
+        // given
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        List<Seed> seeds = seed(profile);
+        ZipfSampler sampler = new ZipfSampler(seeds.size(), profile.skew());
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+            successes.put(operation, new AtomicLong());
+            failures.put(operation, new AtomicLong());
+        }
+
+        // when
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(profile.durationSeconds());
+        ExecutorService executor = Executors.newFixedThreadPool(profile.threads());
+        long start = System.nanoTime();
+        for (int i = 0; i < profile.threads(); i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(pick(profile), seeds.get(sampler.next()), profile);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(profile.durationSeconds() + 60L, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        // then
+        report(elapsedSeconds);
+        int mismatches = 0;
+        for (Seed seed : seeds) {
+            Account account = accountRepository.findByAccountNumber(seed.accountNumber()).orElseThrow();
+            long expected = profile.initialBalance() + seed.ledger().get();
+            if (account.getBalance() != expected) {
+                mismatches++;
+                log.error("balance mismatch : accountNumber={}, expected={}, actual={}",
+                        seed.accountNumber(), expected, account.getBalance());
+            }
+        }
+        assertEquals(0, mismatches);
+    }
+
+    private List<Seed> seed(LoadProfile profile) {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < profile.users(); i++) {
+            users.add(new Object[]{FIRST_USER_ID + i, "load-user-" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into account_user(id, name, created_at, updated_at) " +
+                "values (?, ?, now(), now())", users);
+
+        List<Seed> seeds = new ArrayList<>();
+        for (int i = 0; i < profile.users(); i++) {
+            long userId = FIRST_USER_ID + i;
+            for (int j = 0; j < profile.accountsPerUser(); j++) {
+                AccountDto account = accountService.createdAccount(userId, profile.initialBalance());
+                seeds.add(new Seed(userId, account.getAccountNumber(), new AtomicLong(),
+                        new ConcurrentLinkedDeque<>()));
+            }
+        }
+        return seeds;
+    }
+
+    private static Operation pick(LoadProfile profile) {
+        int r = ThreadLocalRandom.current().nextInt(profile.totalWeight());
+        if ((r -= profile.useWeight()) < 0) {
+            return Operation.USE;
+        }
+        if ((r -= profile.cancelWeight()) < 0) {
+            return Operation.CANCEL;
+        }
+        if (r - profile.queryWeight() < 0) {
+            return Operation.QUERY;
+        }
+        return Operation.CREATE;
+    }
+
+    private void execute(Operation operation, Seed seed, LoadProfile profile) {
+        try {
+            switch (operation) {
+                case USE -> {
+                    long amount = ThreadLocalRandom.current().nextLong(10, 1_000);
+                    JsonNode body = send(operation, post("/transaction/use", Map.of(
+                            "userId", seed.userId(),
+                            "accountNumber", seed.accountNumber(),
+                            "amount", amount)));
+                    if (body != null) {
+                        seed.ledger().addAndGet(-amount);
+                        seed.cancelables().add(new Cancelable(body.get("transactionId").asText(), amount));
+                    }
+                }
+                case CANCEL -> {
+                    Cancelable cancelable = seed.cancelables().pollFirst();
+                    if (cancelable == null) {
+                        execute(Operation.QUERY, seed, profile);
+                        return;
+                    }
+                    JsonNode body = send(operation, post("/transaction/cancel", Map.of(
+                            "transactionId", cancelable.transactionId(),
+                            "accountNumber", seed.accountNumber(),
+                            "amount", cancelable.amount())));
+                    if (body != null) {
+                        seed.ledger().addAndGet(cancelable.amount());
+                    }
+                }
+                case QUERY -> send(operation, HttpRequest.newBuilder(uri("/account?user_id=" + seed.userId()))
+                        .GET()
+                        .build());
+                case CREATE -> send(operation, post("/account", Map.of(
+                        "userId", FIRST_USER_ID + ThreadLocalRandom.current().nextInt(profile.users()),
+                        "initialBalance", profile.initialBalance())));
+            }
+        } catch (Exception e) {
+            failures.get(operation).incrementAndGet();
+        }
+    }
+
+    // 성공한 경우 응답 본문, 실패한 경우 null
+    private JsonNode send(Operation operation, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+
+        JsonNode body = objectMapper.readTree(response.body());
+        JsonNode errorCode = body.isObject() ? body.get("errorCode") : null;
+        if (response.statusCode() / 100 == 2 && errorCode == null) {
+            successes.get(operation).incrementAndGet();
+            return body;
+        }
+        if (errorCode != null && LOCK_REJECTED.equals(errorCode.asText())) {
+            lockRejections.incrementAndGet();
+        }
+        failures.get(operation).incrementAndGet();
+        return null;
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(double elapsedSeconds) {
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            total += histogram.getTotalCount();
+            log.info("{} : success={}, failure={}, p50={}us, p90={}us, p99={}us, p99.9={}us, max={}us",
+                    operation, successes.get(operation), failures.get(operation),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+        long lockedRequests = latencies.get(Operation.USE).getTotalCount()
+                + latencies.get(Operation.CANCEL).getTotalCount();
+        log.info("throughput={} req/s, lockRejectionRate={}%", String.format("%.1f", total / elapsedSeconds),
+                String.format("%.2f", lockedRequests == 0 ? 0.0 : 100.0 * lockRejections.get() / lockedRequests));
+    }
+}
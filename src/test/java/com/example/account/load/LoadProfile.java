@@ -0,0 +1,36 @@
+package com.example.account.load;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티로 변경)
+ * ex) ./gradlew loadTest -Dload.threads=64 -Dload.mix=60:10:25:5 -Dload.skew=1.2
+ */
+record LoadProfile(int users,
+                   int accountsPerUser,
+                   long initialBalance,
+                   int threads,
+                   int durationSeconds,
+                   int useWeight,
+                   int cancelWeight,
+                   int queryWeight,
+                   int createWeight,
+                   double skew) {
+
+    static LoadProfile fromSystemProperties() {
+        String[] mix = System.getProperty("load.mix", "50:10:35:5").split(":");
+        return new LoadProfile(
+                Integer.getInteger("load.users", 100),
+                Integer.getInteger("load.accountsPerUser", 3),
+                Long.getLong("load.initialBalance", 1_000_000L),
+                Integer.getInteger("load.threads", 32),
+                Integer.getInteger("load.durationSeconds", 30),
+                Integer.parseInt(mix[0]),
+                Integer.parseInt(mix[1]),
+                Integer.parseInt(mix[2]),
+                Integer.parseInt(mix[3]),
+                Double.parseDouble(System.getProperty("load.skew", "1.1")));
+    }
+
+    int totalWeight() {
+        return useWeight + cancelWeight + queryWeight + createWeight;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.account.load;
+
+import com.example.account.service.account.AccountService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10k 동시 폴링 시 서블릿(JPA) 조회와 리액티브(R2DBC) 조회의 스레드/커넥션 사용량 비교
+ * 두 방식 모두 요청 처리 중인 Tomcat 스레드, 사용 중인 JDBC(Hikari) / R2DBC(r2dbc-pool) 커넥션 수의 최대값을 샘플링한다.
+ * - 두 방식 모두 모든 요청이 200 으로 끝나야 한다.
+ * - 각 풀의 최대 크기를 넘지 않아야 한다.
+ * - 서블릿 조회는 R2DBC 를, 리액티브 조회는 JDBC 대신 R2DBC 커넥션을 써야 한다.
+ * - 리액티브 조회는 DB 를 기다리는 동안 서버 스레드를 잡지 않으므로 처리 중 스레드 최대값이 서블릿보다 작아야 한다.
+ * - 각 방식의 전체 소요 시간은 load.polling.maxElapsedMs (기본 60초) 이내
+ * 잔액 캐시를 끄고 실행해 서블릿 조회도 DB 를 거치게 한다.
+ * ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "account.balance-cache.enabled=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReactivePollingLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(ReactivePollingLoadTest.class);
+    private static final int POLLERS = 10_000;
+    private static final long MAX_ELAPSED_MILLIS = Long.getLong("load.polling.maxElapsedMs", 60_000L);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ServletWebServerApplicationContext webServerContext;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxServerThreads;
+
+    @Value("${reactive.r2dbc.max-pool-size:10}")
+    private int maxR2dbcConnections;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            accountService.createdAccount(1L, 10_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("10k 동시 폴링 - 서블릿 vs 리액티브")
+    void compareThreadAndConnectionUsage() throws Exception {
+        // when
+        Usage servlet = poll("/account?user_id=1");
+        Usage reactive = poll("/reactive/account?user_id=1");
+
+        // then
+        log.info("servlet  : {}", servlet);
+        log.info("reactive : {}", reactive);
+        log.info("busy server threads servlet/reactive = {}/{}, JDBC = {}/{}, R2DBC = {}/{}",
+                servlet.peakBusyServerThreads, reactive.peakBusyServerThreads,
+                servlet.peakJdbcConnections, reactive.peakJdbcConnections,
+                servlet.peakR2dbcConnections, reactive.peakR2dbcConnections);
+        for (Usage usage : List.of(servlet, reactive)) {
+            assertEquals(POLLERS, usage.ok);
+            assertEquals(0, usage.failed);
+            assertTrue(usage.peakBusyServerThreads <= maxServerThreads);
+            assertTrue(usage.peakJdbcConnections <= maxJdbcConnections());
+            assertTrue(usage.peakR2dbcConnections <= maxR2dbcConnections);
+            assertTrue(usage.elapsedMillis <= MAX_ELAPSED_MILLIS);
+        }
+        assertEquals(0, servlet.peakR2dbcConnections);
+        assertTrue(reactive.peakR2dbcConnections > 0);
+        assertTrue(reactive.peakBusyServerThreads < servlet.peakBusyServerThreads);
+    }
+
+    private Usage poll(String path) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger peakBusyServerThreads = new AtomicInteger();
+        AtomicInteger peakJdbcConnections = new AtomicInteger();
+        AtomicInteger peakR2dbcConnections = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peakBusyServerThreads.accumulateAndGet(busyServerThreads(), Math::max);
+                peakJdbcConnections.accumulateAndGet(activeJdbcConnections(), Math::max);
+                peakR2dbcConnections.accumulateAndGet(acquiredR2dbcConnections(), Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> futures = new ArrayList<>(POLLERS);
+        for (int i = 0; i < POLLERS; i++) {
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e == null && response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        running.set(false);
+        sampler.join();
+        return new Usage(ok.get(), failed.get(), peakBusyServerThreads.get(), peakJdbcConnections.get(),
+                peakR2dbcConnections.get(), elapsedMillis);
+    }
+
+    // 요청을 처리 중인 Tomcat 스레드 (이미 만들어져 쉬고 있는 스레드 제외)
+    private int busyServerThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) webServerContext.getWebServer();
+        if (webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()
+                instanceof ThreadPoolExecutor executor) {
+            return executor.getActiveCount();
+        }
+        return 0;
+    }
+
+    private int maxJdbcConnections() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private int activeJdbcConnections() {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+            return hikari.getHikariPoolMXBean().getActiveConnections();
+        }
+        return 0;
+    }
+
+    private int acquiredR2dbcConnections() {
+        Gauge gauge = meterRegistry.find("r2dbc.pool.acquired").gauge();
+        return gauge == null ? 0 : (int) gauge.value();
+    }
+
+    private record Usage(int ok, int failed, int peakBusyServerThreads, int peakJdbcConnections,
+                         int peakR2dbcConnections, long elapsedMillis) {
+    }
+}
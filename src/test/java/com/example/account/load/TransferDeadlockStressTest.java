@@ -0,0 +1,117 @@
+package com.example.account.load;
+
+import com.example.account.controller.transaction.TransactionController;
+import com.example.account.dto.transaction.Transfer;
+import com.example.account.exception.account.AccountException;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.service.account.AccountService;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 교차 이체 스트레스 테스트 (A->B 와 B->A 를 동시에)
+ * 락을 계좌번호 순서로 잡으므로 모든 요청이 시간 안에 끝나야 하고 (교착 없음),
+ * 락 대기 시간을 충분히 주면 락 거절 없이 모든 이체가 성공하고 전체 잔액 합은 변하지 않아야 한다.
+ * (교착이 생기면 락 대기 시간 초과로 거절되거나 시간 안에 끝나지 않는다.)
+ * ./gradlew loadTest 로 실행
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "lock.wait-ms=60000"
+})
+class TransferDeadlockStressTest {
+    private static final Logger log = LoggerFactory.getLogger(TransferDeadlockStressTest.class);
+    private static final long USER_ID = 2_000L;
+    private static final int ACCOUNTS = 4;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    // 잔액 부족으로 실패하는 이체가 없도록 (최대 이체 금액 x 전체 이체 수보다 크게)
+    private static final long INITIAL_BALANCE = 10_000_000L;
+
+    @Autowired
+    private TransactionController transactionController;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("교차 이체 - 교착 없이 완료, 잔액 합 보존")
+    void crossTransfers() throws Exception {
+        // given
+        jdbcTemplate.update("insert into account_user(id, name, created_at, updated_at) values (?, ?, now(), now())",
+                USER_ID, "transfer-user");
+        List<String> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountNumbers.add(accountService.createdAccount(USER_ID, INITIAL_BALANCE).getAccountNumber());
+        }
+        AtomicLong successes = new AtomicLong();
+        AtomicLong lockRejections = new AtomicLong();
+        AtomicLong otherFailures = new AtomicLong();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int from = random.nextInt(ACCOUNTS);
+                    int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                    try {
+                        transactionController.transfer(Transfer.Request.builder()
+                                .userId(USER_ID)
+                                .fromAccountNumber(accountNumbers.get(from))
+                                .toAccountNumber(accountNumbers.get(to))
+                                .amount(10L + random.nextInt(1000))
+                                .build());
+                        successes.incrementAndGet();
+                    } catch (AccountException e) {
+                        if (e.getErrorCode() == ErrorCode.ACCOUNT_TRANSACTION_LOCK) {
+                            lockRejections.incrementAndGet();
+                        } else {
+                            otherFailures.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(5, TimeUnit.MINUTES);
+
+        // then
+        log.info("transfers : success={}, lockRejected={}, otherFailed={}",
+                successes.get(), lockRejections.get(), otherFailures.get());
+        assertTrue(finished, "cross transfers did not finish (possible deadlock)");
+        assertEquals(0L, lockRejections.get(), "lock wait timed out (possible deadlock)");
+        assertEquals(0L, otherFailures.get());
+        assertEquals((long) THREADS * TRANSFERS_PER_THREAD, successes.get());
+        long total = accountNumbers.stream()
+                .mapToLong(accountNumber -> accountRepository.findByAccountNumber(accountNumber)
+                        .orElseThrow().getBalance())
+                .sum();
+        assertEquals(INITIAL_BALANCE * ACCOUNTS, total);
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.account.load;
+
+import com.example.account.service.account.AccountService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 잔액 사용 API(/transaction/use : 계좌 락 + 처리 지연 + DB)를 플랫폼 스레드(Tomcat 기본 200개)와
+ * 가상 스레드(spring.threads.virtual.enabled=true)로 각각 띄워 동시 요청을 보낸다.
+ * - 두 모드 모두 모든 요청이 성공해야 한다.
+ * - 플랫폼 스레드는 (요청 수 / 200) x 처리 지연보다 빨리 끝날 수 없고, 가상 스레드는 그보다 빨리 끝나야 한다.
+ * - 서버 필터로 센 처리 중 요청 수를 샘플링해서, 플랫폼 스레드는 풀 크기를 넘지 못하고 가상 스레드는 넘어야 한다.
+ * - 같은 시점의 힙 사용량/RSS 증가분을 처리 중 요청 수로 나눈 요청당 메모리를 두 모드 모두 로그로 남긴다.
+ *   (HTTP 클라이언트도 같은 JVM 에 있으므로 절대값보다 두 모드 간 비교용)
+ * - 가상 스레드 모드에서는 JFR jdk.VirtualThreadPinned 이벤트(carrier thread 고정)가 없어야 한다.
+ *   (loadTest 는 -Djdk.tracePinnedThreads=short 로 실행되므로 고정된 위치가 표준 출력에도 남는다.)
+ * 프로젝트는 Java 17 로 빌드하므로 Java 21 미만에서는 건너뛴다. 테스트 JVM 만 21 로 바꿔 실행한다.
+ * ./gradlew loadTest -PloadTestJavaVersion=21 (로컬에 설치된 JDK 21 을 Gradle toolchain 으로 찾는다)
+ */
+@Tag("load")
+abstract class VirtualThreadLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final long FIRST_USER_ID = 3_000L;
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long USE_DELAY_MILLIS = 500L;
+    // 플랫폼 스레드 풀로 처리할 수 있는 최소 시간
+    private static final long PLATFORM_MIN_MILLIS = (REQUESTS / PLATFORM_POOL_SIZE) * USE_DELAY_MILLIS;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InFlightRequests inFlightRequests;
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=" + PLATFORM_POOL_SIZE,
+            "transaction.use.delay-ms=" + USE_DELAY_MILLIS,
+            "rate-limit.enabled=false",
+            "spring.jpa.properties.hibernate.show_sql=false",
+            "spring.datasource.url=jdbc:h2:mem:virtual-thread-load;DB_CLOSE_DELAY=-1",
+            "spring.redis.port=16382"
+    })
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    @Import(InFlightRequests.class)
+    @EnabledIf("com.example.account.load.VirtualThreadLoadTest#virtualThreadsSupported")
+    static class PlatformThreads extends VirtualThreadLoadTest {
+
+        @Test
+        @DisplayName("플랫폼 스레드 - 모든 요청 성공, 스레드 풀 크기만큼씩 처리")
+        void useBalance() throws Exception {
+            // given
+            List<String> accountNumbers = createAccounts();
+
+            // when
+            Result result = useBalanceConcurrently(accountNumbers);
+
+            // then
+            assertEquals(REQUESTS, result.ok(), result.failures());
+            assertTrue(result.elapsedMillis() >= PLATFORM_MIN_MILLIS);
+            assertTrue(result.peakInFlight() <= PLATFORM_POOL_SIZE,
+                    "platform threads had " + result.peakInFlight() + " requests in flight");
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "server.tomcat.threads.max=" + PLATFORM_POOL_SIZE,
+            "transaction.use.delay-ms=" + USE_DELAY_MILLIS,
+            "rate-limit.enabled=false",
+            "spring.jpa.properties.hibernate.show_sql=false",
+            "spring.datasource.url=jdbc:h2:mem:virtual-thread-load;DB_CLOSE_DELAY=-1",
+            "spring.redis.port=16382"
+    })
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    @Import(InFlightRequests.class)
+    @EnabledIf("com.example.account.load.VirtualThreadLoadTest#virtualThreadsSupported")
+    static class VirtualThreads extends VirtualThreadLoadTest {
+
+        @Test
+        @DisplayName("가상 스레드 - 모든 요청 성공, 스레드 풀 한도보다 많이 동시 처리, carrier thread 고정 없음")
+        void useBalance() throws Exception {
+            // given
+            List<String> accountNumbers = createAccounts();
+            ConcurrentLinkedQueue<String> pinned = new ConcurrentLinkedQueue<>();
+            Result result;
+
+            // when
+            try (RecordingStream recording = new RecordingStream()) {
+                recording.enable("jdk.VirtualThreadPinned").withStackTrace();
+                recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+                recording.startAsync();
+                result = useBalanceConcurrently(accountNumbers);
+                // 녹화 버퍼는 약 1초마다 전달된다.
+                Thread.sleep(2_000L);
+            }
+
+            // then
+            assertEquals(REQUESTS, result.ok(), result.failures());
+            assertTrue(result.elapsedMillis() < PLATFORM_MIN_MILLIS,
+                    "virtual threads took " + result.elapsedMillis() + "ms");
+            assertTrue(result.peakInFlight() > PLATFORM_POOL_SIZE,
+                    "virtual threads had only " + result.peakInFlight() + " requests in flight");
+            assertTrue(pinned.isEmpty(), () -> "pinned virtual threads :\n" + String.join("\n", pinned));
+        }
+    }
+
+    // 계좌 락이 겹치지 않도록 요청마다 다른 사용자/계좌 (다른 부하 테스트 컨텍스트와 DB/Redis 포트를 나눠 쓴다)
+    List<String> createAccounts() {
+        List<Object[]> users = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            users.add(new Object[]{FIRST_USER_ID + i, "virtual-thread-user-" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into account_user(id, name, created_at, updated_at) " +
+                "values (?, ?, now(), now())", users);
+        List<String> accountNumbers = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            accountNumbers.add(accountService.createdAccount(FIRST_USER_ID + i, 100_000L).getAccountNumber());
+        }
+        return accountNumbers;
+    }
+
+    Result useBalanceConcurrently(List<String> accountNumbers) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        AtomicInteger ok = new AtomicInteger();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        Sampler sampler = new Sampler(inFlightRequests);
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            String body = "{\"userId\":" + (FIRST_USER_ID + i) + ",\"accountNumber\":\"" + accountNumbers.get(i)
+                    + "\",\"amount\":1000}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/transaction/use"))
+                    .timeout(Duration.ofSeconds(120))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, e) -> {
+                        if (e == null && response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        } else {
+                            failures.add(e != null ? e.toString() : response.statusCode() + " " + response.body());
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        sampler.stop();
+        log.info("{} : ok={}, failed={}, elapsed={}ms (platform pool minimum {}ms), peak in flight={}, "
+                        + "heap/request={}KB, rss/request={}KB", getClass().getSimpleName(), ok.get(),
+                failures.size(), elapsedMillis, PLATFORM_MIN_MILLIS, sampler.peakInFlight,
+                sampler.heapBytesPerRequest() / 1024, sampler.rssBytesPerRequest() / 1024);
+        return new Result(ok.get(), failures.stream().limit(10).collect(Collectors.joining("\n")), elapsedMillis,
+                sampler.peakInFlight, sampler.heapBytesPerRequest(), sampler.rssBytesPerRequest());
+    }
+
+    // 고정된 동안 대기한 위치 (상위 프레임 몇 개)
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.getDuration().toMillis() + "ms";
+        }
+        return event.getDuration().toMillis() + "ms at " + event.getStackTrace().getFrames().stream()
+                .limit(8)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining(" <- "));
+    }
+
+    static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    record Result(int ok, String failures, long elapsedMillis, int peakInFlight, long heapBytesPerRequest,
+                  long rssBytesPerRequest) {
+    }
+
+    // 서버가 처리 중인 요청 수 (플랫폼 스레드 모드에서는 Tomcat 스레드를 잡은 요청만 들어온다)
+    static class InFlightRequests extends OncePerRequestFilter {
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            inFlight.incrementAndGet();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        int current() {
+            return inFlight.get();
+        }
+    }
+
+    // 처리 중 요청 수가 가장 많았던 시점의 힙 사용량/RSS 를 시작 전 값과 비교
+    private static class Sampler {
+        private static final long INTERVAL_MILLIS = 20L;
+
+        private final InFlightRequests inFlightRequests;
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final long baselineHeap;
+        private final long baselineRss;
+        private volatile int peakInFlight;
+        private volatile long heapAtPeak;
+        private volatile long rssAtPeak;
+
+        private Sampler(InFlightRequests inFlightRequests) {
+            this.inFlightRequests = inFlightRequests;
+            System.gc();
+            this.baselineHeap = memory.getHeapMemoryUsage().getUsed();
+            this.baselineRss = readRss();
+            scheduler.scheduleAtFixedRate(this::sample, 0L, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            int inFlight = inFlightRequests.current();
+            if (inFlight > peakInFlight) {
+                peakInFlight = inFlight;
+                heapAtPeak = memory.getHeapMemoryUsage().getUsed();
+                rssAtPeak = readRss();
+            }
+        }
+
+        private void stop() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        private long heapBytesPerRequest() {
+            return peakInFlight == 0 ? 0L : Math.max(0L, heapAtPeak - baselineHeap) / peakInFlight;
+        }
+
+        // RSS 를 읽을 수 없는 환경(리눅스 외)에서는 -1
+        private long rssBytesPerRequest() {
+            if (baselineRss < 0 || rssAtPeak < 0) {
+                return -1L;
+            }
+            return peakInFlight == 0 ? 0L : Math.max(0L, rssAtPeak - baselineRss) / peakInFlight;
+        }
+
+        private static long readRss() {
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // 리눅스가 아닌 경우
+            }
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.account.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 0 ~ n-1 사이의 인덱스를 Zipf 분포로 뽑는다. (앞쪽 인덱스일수록 자주 선택 -> hot key)
+ * skew 가 0 이면 균등 분포
+ */
+class ZipfSampler {
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double skew) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < r) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
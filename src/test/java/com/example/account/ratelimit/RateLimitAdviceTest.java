@@ -0,0 +1,82 @@
+package com.example.account.ratelimit;
+
+import com.example.account.dto.transaction.Transfer;
+import com.example.account.dto.transaction.UseBalance;
+import com.example.account.exception.account.AccountException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitAdviceTest {
+
+    @Mock
+    private ObjectProvider<RedissonClient> redissonClient;
+
+    @Test
+    @DisplayName("계좌 한도에 걸린 요청은 사용자 한도를 소비하지 않는다")
+    void rejectWithoutConsumingUserLimit() {
+        // given
+        RateLimitAdvice advice = advice();
+        read(advice, useBalance(1L, "1000000000"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> read(advice, useBalance(2L, "1000000000")));
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        // 사용자 2 의 토큰은 그대로 남아 있다.
+        assertDoesNotThrow(() -> read(advice, useBalance(2L, "1000000001")));
+    }
+
+    @Test
+    @DisplayName("이체 - 출금/입금 계좌 모두 계좌 한도 적용")
+    void limitTransferAccounts() {
+        // given
+        RateLimitAdvice advice = advice();
+        read(advice, useBalance(1L, "1000000001"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> read(advice, transfer(2L, "1000000000", "1000000001")));
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        // 거절된 이체는 출금 계좌와 사용자 한도를 소비하지 않는다.
+        assertDoesNotThrow(() -> read(advice, useBalance(2L, "1000000000")));
+    }
+
+    // 사용자/계좌 모두 버스트 1, 초당 1개
+    private RateLimitAdvice advice() {
+        return new RateLimitAdvice(redissonClient, 1, 1, 1, 1, 60_000L, 4, false);
+    }
+
+    private static void read(RateLimitAdvice advice, Object body) {
+        advice.afterBodyRead(body, null, null, body.getClass(), null);
+    }
+
+    private static UseBalance.Request useBalance(Long userId, String accountNumber) {
+        return UseBalance.Request.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .amount(1000L)
+                .build();
+    }
+
+    private static Transfer.Request transfer(Long userId, String fromAccountNumber, String toAccountNumber) {
+        return Transfer.Request.builder()
+                .userId(userId)
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.account.repository;
+
+import com.example.account.repository.redis.HotBalanceEntry;
+import com.example.account.repository.redis.HotBalanceRepository;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import org.junit.jupiter.api.*;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// embedded Redis 에서 Lua 스크립트 동작 확인
+class HotBalanceRepositoryTest {
+    private static final int REDIS_PORT = 16379;
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    private HotBalanceRepository hotBalanceRepository;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:" + REDIS_PORT);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        hotBalanceRepository = new HotBalanceRepository(redissonClient);
+    }
+
+    @Test
+    @DisplayName("적재 전 차감은 NOT_LOADED, 적재 후 차감하면 잔액과 저널, dirty 가 함께 바뀐다")
+    void debit() {
+        // given
+        long notLoaded = hotBalanceRepository.debit(1L, "1000000000", 1000L, "t1", 100L);
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 10000L);
+
+        // when
+        long balance = hotBalanceRepository.debit(1L, "1000000000", 1000L, "t2", 200L);
+
+        // then
+        assertEquals(HotBalanceRepository.NOT_LOADED, notLoaded);
+        assertEquals(9000L, balance);
+        assertEquals(List.of(new HotBalanceEntry(TransactionType.USE, TransactionResultType.S, "t2",
+                1000L, 9000L, 200L)), hotBalanceRepository.peekJournal("1000000000", 10));
+        assertEquals(Set.of("1000000000"), hotBalanceRepository.findDirtyAccountNumbers());
+    }
+
+    @Test
+    @DisplayName("차감 실패 - 소유주 다름/해지/잔액 부족은 잔액을 바꾸지 않고 실패 거래로 저널에 남는다")
+    void debitFailures() {
+        // given
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 500L);
+        hotBalanceRepository.loadIfAbsent("1000000001", 1L, AccountStatus.UNREGISTERED, 500L);
+
+        // when
+        long exceed = hotBalanceRepository.debit(1L, "1000000000", 1000L, "t1", 100L);
+        long unMatch = hotBalanceRepository.debit(2L, "1000000000", 100L, "t2", 100L);
+        long unregistered = hotBalanceRepository.debit(1L, "1000000001", 100L, "t3", 100L);
+
+        // then
+        assertEquals(HotBalanceRepository.AMOUNT_EXCEED_BALANCE, exceed);
+        assertEquals(HotBalanceRepository.USER_ACCOUNT_UN_MATCH, unMatch);
+        assertEquals(HotBalanceRepository.ACCOUNT_ALREADY_UNREGISTERED, unregistered);
+        List<HotBalanceEntry> journal = hotBalanceRepository.peekJournal("1000000000", 10);
+        assertEquals(2, journal.size());
+        assertTrue(journal.stream().allMatch(entry ->
+                entry.transactionResultType() == TransactionResultType.F && entry.balanceSnapshot() == 500L));
+        assertEquals("500", hash("1000000000").get("balance"));
+    }
+
+    @Test
+    @DisplayName("취소는 잔액을 늘리고 CANCEL 성공 거래로 저널에 남는다")
+    void credit() {
+        // given
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 500L);
+
+        // when
+        long balance = hotBalanceRepository.credit("1000000000", 300L, "t1", 100L);
+
+        // then
+        assertEquals(800L, balance);
+        assertEquals(new HotBalanceEntry(TransactionType.CANCEL, TransactionResultType.S, "t1", 300L, 800L, 100L),
+                hotBalanceRepository.peekJournal("1000000000", 10).get(0));
+    }
+
+    @Test
+    @DisplayName("이미 적재된 계좌는 다시 적재하지 않고, 저널이 남은 계좌는 DB 값으로 다시 만들지 않는다")
+    void loadAndRebuild() {
+        // given
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 1000L);
+        hotBalanceRepository.debit(1L, "1000000000", 100L, "t1", 100L);
+        hotBalanceRepository.loadIfAbsent("1000000001", 1L, AccountStatus.IN_USE, 1000L);
+
+        // when
+        boolean reloaded = hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 5000L);
+        boolean dirtyRebuilt = hotBalanceRepository.rebuild("1000000000", 1L, AccountStatus.IN_USE, 5000L);
+        boolean cleanRebuilt = hotBalanceRepository.rebuild("1000000001", 1L, AccountStatus.IN_USE, 5000L);
+
+        // then
+        assertFalse(reloaded);
+        assertFalse(dirtyRebuilt);
+        assertTrue(cleanRebuilt);
+        assertEquals("900", hash("1000000000").get("balance"));
+        assertEquals("5000", hash("1000000001").get("balance"));
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 계좌도 내리지 않고 상태만 맞추므로, 반영 전 DB 값으로 다시 적재되지 않는다")
+    void updateStatus() {
+        // given
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 1000L);
+        hotBalanceRepository.debit(1L, "1000000000", 100L, "t1", 100L);
+        hotBalanceRepository.trimJournal("1000000000", 1);
+        hotBalanceRepository.clearDirtyIfEmpty("1000000000");
+
+        // when
+        boolean updated = hotBalanceRepository.updateStatus("1000000000", AccountStatus.UNREGISTERED);
+        boolean staleReloaded = hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 1000L);
+        long afterUnregistered = hotBalanceRepository.debit(1L, "1000000000", 100L, "t2", 200L);
+        boolean notLoadedUpdated = hotBalanceRepository.updateStatus("1000000001", AccountStatus.UNREGISTERED);
+
+        // then
+        assertTrue(updated);
+        assertFalse(staleReloaded);
+        assertEquals(HotBalanceRepository.ACCOUNT_ALREADY_UNREGISTERED, afterUnregistered);
+        assertEquals("900", hash("1000000000").get("balance"));
+        assertFalse(notLoadedUpdated);
+        assertTrue(hash("1000000001").isEmpty());
+    }
+
+    @Test
+    @DisplayName("앞쪽 N 건만 제거하고, 저널이 남아 있으면 dirty 에서 빼지 않는다")
+    void trimJournal() {
+        // given
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 1000L);
+        hotBalanceRepository.debit(1L, "1000000000", 100L, "t1", 100L);
+        hotBalanceRepository.debit(1L, "1000000000", 100L, "t2", 200L);
+        hotBalanceRepository.debit(1L, "1000000000", 100L, "t3", 300L);
+
+        // when
+        hotBalanceRepository.trimJournal("1000000000", 2);
+        hotBalanceRepository.clearDirtyIfEmpty("1000000000");
+
+        // then
+        List<HotBalanceEntry> journal = hotBalanceRepository.peekJournal("1000000000", 10);
+        assertEquals(1, journal.size());
+        assertEquals("t3", journal.get(0).transactionId());
+        assertEquals(Set.of("1000000000"), hotBalanceRepository.findDirtyAccountNumbers());
+    }
+
+    private static Map<String, String> hash(String accountNumber) {
+        return redissonClient.<String, String>getMap("hot:account:" + accountNumber, StringCodec.INSTANCE)
+                .readAllMap();
+    }
+}
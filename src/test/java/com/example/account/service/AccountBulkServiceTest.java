@@ -0,0 +1,192 @@
+package com.example.account.service;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.account.AccountUser;
+import com.example.account.dto.account.BulkCreateAccount;
+import com.example.account.dto.account.CreateAccount;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.service.account.AccountBulkService;
+import com.example.account.service.account.AccountNumberAllocator;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBulkServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("일괄 생성 - chunk 단위 조회/저장, 항목별 결과")
+    void createAccounts() {
+        // given
+        AccountBulkService accountBulkService = new AccountBulkService(accountRepository, accountUserRepository,
+                accountNumberAllocator, applicationEventPublisher, transactionManager, 2);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .activeAccountCount(9)
+                .build();
+        user.setId(1L);
+        given(accountUserRepository.findAllById(anyIterable()))
+                .willReturn(List.of(user), List.of());
+        given(accountUserRepository.increaseActiveAccountCount(1L, 1, 10))
+                .willReturn(1);
+        given(accountNumberAllocator.allocate(1))
+                .willReturn(List.of("1000000000"), List.of("1000000001"));
+        given(accountRepository.findAccountNumbersIn(List.of("1000000000")))
+                .willReturn(List.of("1000000000"));
+        given(accountRepository.findAccountNumbersIn(List.of("1000000001")))
+                .willReturn(List.of());
+        given(accountRepository.saveAllAndFlush(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        List<CreateAccount.Request> requests = List.of(
+                new CreateAccount.Request(1L, 1000L),
+                new CreateAccount.Request(1L, 2000L),
+                new CreateAccount.Request(99L, 0L));
+        List<BulkCreateAccount.Result> results = new ArrayList<>();
+        ArgumentCaptor<List<Account>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        int created = accountBulkService.createAccounts(requests, results::addAll);
+
+        // then
+        assertEquals(1, created);
+        assertEquals(3, results.size());
+        assertEquals(0, results.get(0).getIndex());
+        assertEquals("1000000001", results.get(0).getAccountNumber());
+        assertNull(results.get(0).getErrorCode());
+        assertEquals(ErrorCode.MAX_ACCOUNT_PER_USER_10, results.get(1).getErrorCode());
+        assertEquals(2, results.get(2).getIndex());
+        assertEquals(ErrorCode.USER_NOT_FOUND, results.get(2).getErrorCode());
+        verify(accountRepository, times(1)).saveAllAndFlush(captor.capture());
+        assertEquals(1000L, captor.getValue().get(0).getBalance());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 예약 update 실패 시 해당 사용자 항목은 한도 초과")
+    void createAccounts_reservationConflict() {
+        // given
+        AccountBulkService accountBulkService = new AccountBulkService(accountRepository, accountUserRepository,
+                accountNumberAllocator, applicationEventPublisher, transactionManager, 10);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .activeAccountCount(8)
+                .build();
+        user.setId(1L);
+        given(accountUserRepository.findAllById(anyIterable()))
+                .willReturn(List.of(user));
+        given(accountUserRepository.increaseActiveAccountCount(1L, 2, 10))
+                .willReturn(0);
+        List<BulkCreateAccount.Result> results = new ArrayList<>();
+
+        // when
+        int created = accountBulkService.createAccounts(List.of(
+                new CreateAccount.Request(1L, 0L),
+                new CreateAccount.Request(1L, 0L)), results::addAll);
+
+        // then
+        assertEquals(0, created);
+        assertEquals(ErrorCode.MAX_ACCOUNT_PER_USER_10, results.get(0).getErrorCode());
+        assertEquals(ErrorCode.MAX_ACCOUNT_PER_USER_10, results.get(1).getErrorCode());
+        verify(accountRepository, times(0)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - chunk 처리 실패 시 해당 chunk 항목만 실패")
+    void createAccounts_chunkFailure() {
+        // given
+        AccountBulkService accountBulkService = new AccountBulkService(accountRepository, accountUserRepository,
+                accountNumberAllocator, applicationEventPublisher, transactionManager, 1);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(1L);
+        given(accountUserRepository.findAllById(anyIterable()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of(user));
+        given(accountUserRepository.increaseActiveAccountCount(1L, 1, 10))
+                .willReturn(1);
+        given(accountNumberAllocator.allocate(1))
+                .willReturn(List.of("1000000000"));
+        given(accountRepository.findAccountNumbersIn(anyCollection()))
+                .willReturn(List.of());
+        given(accountRepository.saveAllAndFlush(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        List<BulkCreateAccount.Result> results = new ArrayList<>();
+
+        // when
+        int created = accountBulkService.createAccounts(List.of(
+                new CreateAccount.Request(1L, 0L),
+                new CreateAccount.Request(1L, 0L)), results::addAll);
+
+        // then
+        assertEquals(1, created);
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, results.get(0).getErrorCode());
+        assertEquals("1000000000", results.get(1).getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 저장 시 계좌번호 충돌이면 chunk 를 새 번호로 다시 처리")
+    void createAccounts_accountNumberConflict() {
+        // given
+        AccountBulkService accountBulkService = new AccountBulkService(accountRepository, accountUserRepository,
+                accountNumberAllocator, applicationEventPublisher, transactionManager, 10);
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(1L);
+        given(accountUserRepository.findAllById(anyIterable()))
+                .willReturn(List.of(user));
+        given(accountUserRepository.increaseActiveAccountCount(1L, 1, 10))
+                .willReturn(1);
+        given(accountNumberAllocator.allocate(1))
+                .willReturn(List.of("1000000000"), List.of("1000000001"));
+        given(accountRepository.findAccountNumbersIn(anyCollection()))
+                .willReturn(List.of());
+        // 확인 이후 단건 생성이 1000000000 을 먼저 저장
+        given(accountRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("ux_account_account_number"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        List<BulkCreateAccount.Result> results = new ArrayList<>();
+
+        // when
+        int created = accountBulkService.createAccounts(List.of(new CreateAccount.Request(1L, 0L)), results::addAll);
+
+        // then
+        assertEquals(1, created);
+        assertEquals("1000000001", results.get(0).getAccountNumber());
+        verify(accountRepository, times(2)).saveAllAndFlush(anyList());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+}
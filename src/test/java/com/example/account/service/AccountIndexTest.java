@@ -0,0 +1,49 @@
+package com.example.account.service;
+
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.service.account.AccountIndex;
+import com.example.account.type.account.AccountStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class AccountIndexTest {
+
+    @Test
+    @DisplayName("계좌 id, 소유자, 상태를 long 하나로 묶고 복원")
+    void packAndUnpack() {
+        // given
+        long entry = AccountIndex.pack((1L << 31) - 1, (1L << 30) - 1, AccountStatus.UNREGISTERED);
+
+        // when
+        // then
+        assertEquals((1L << 31) - 1, AccountIndex.accountId(entry));
+        assertEquals((1L << 30) - 1, AccountIndex.userId(entry));
+        assertEquals(AccountStatus.UNREGISTERED, AccountIndex.status(entry));
+    }
+
+    @Test
+    @DisplayName("생성/해지 이벤트로 갱신, 숫자 10자리가 아니거나 없는 계좌는 MISSING")
+    void updateOnAccountChanged() {
+        // given
+        AccountIndex accountIndex = new AccountIndex(mock(DataSource.class), true, 16, 100);
+
+        // when
+        accountIndex.onAccountChanged(new AccountChangedEvent(7L, 100L, "0000000000", AccountStatus.IN_USE));
+        accountIndex.onAccountChanged(new AccountChangedEvent(8L, 101L, "1234567890", AccountStatus.IN_USE));
+        accountIndex.onAccountChanged(new AccountChangedEvent(8L, 101L, "1234567890", AccountStatus.UNREGISTERED));
+
+        // then
+        long first = accountIndex.find("0000000000");
+        assertEquals(100L, AccountIndex.accountId(first));
+        assertEquals(7L, AccountIndex.userId(first));
+        assertEquals(AccountStatus.UNREGISTERED, AccountIndex.status(accountIndex.find("1234567890")));
+        assertEquals(AccountIndex.MISSING, accountIndex.find("1234567891"));
+        assertEquals(AccountIndex.MISSING, accountIndex.find("12345abcde"));
+        assertEquals(2, accountIndex.size());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.account.service;
+
+import com.example.account.dto.account.AccountDto;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.service.account.AccountQueryCoalescer;
+import com.example.account.service.account.AccountService;
+import com.example.account.service.account.AccountVersionService;
+import com.example.account.type.account.AccountStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountQueryCoalescerTest {
+
+    @Mock
+    private AccountService accountService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("동시 조회 -> DB 조회 1회 공유")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        AccountQueryCoalescer coalescer = new AccountQueryCoalescer(accountService, registry(), 0L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(accountService.getAccountsByUserId(anyLong()))
+                .willAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return accounts();
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        Future<?>[] futures = new Future[8];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = executor.submit(() -> coalescer.getAccountsByUserId(1L));
+        }
+        Thread.sleep(200L);
+        release.countDown();
+        for (Future<?> future : futures) {
+            assertEquals(accounts().size(), ((List<?>) future.get(5, TimeUnit.SECONDS)).size());
+        }
+        executor.shutdown();
+
+        // then
+        verify(accountService, times(1)).getAccountsByUserId(1L);
+        assertEquals(1.0, meterRegistry.counter("account.query.coalesce", "result", "leader").count());
+        assertEquals(7.0, meterRegistry.counter("account.query.coalesce", "result", "follower").count());
+    }
+
+    @Test
+    @DisplayName("캐시 후 계좌 변경 -> 무효화")
+    void invalidateCacheOnAccountChanged() {
+        // given
+        AccountQueryCoalescer coalescer = new AccountQueryCoalescer(accountService, registry(), 60_000L);
+        given(accountService.getAccountsByUserId(anyLong()))
+                .willReturn(accounts());
+
+        // when
+        coalescer.getAccountsByUserId(1L);
+        coalescer.getAccountsByUserId(1L);
+        coalescer.invalidate(new AccountChangedEvent(1L, 1L, "1000000000", AccountStatus.IN_USE));
+        coalescer.getAccountsByUserId(1L);
+
+        // then
+        verify(accountService, times(2)).getAccountsByUserId(1L);
+        assertEquals(1.0, meterRegistry.counter("account.query.coalesce", "result", "cache_hit").count());
+    }
+
+
+    @Test
+    @DisplayName("조회 도중 계좌 변경 -> 조회 결과를 캐시하지 않음")
+    void skipCacheWhenInvalidatedDuringLoad() {
+        // given
+        AccountQueryCoalescer coalescer = new AccountQueryCoalescer(accountService, registry(), 60_000L);
+        given(accountService.getAccountsByUserId(anyLong()))
+                .willAnswer(invocation -> {
+                    coalescer.invalidate(new AccountChangedEvent(1L, 1L, "1000000000", AccountStatus.IN_USE));
+                    return accounts();
+                })
+                .willReturn(accounts());
+
+        // when
+        coalescer.getAccountsByUserId(1L);
+        coalescer.getAccountsByUserId(1L);
+        coalescer.getAccountsByUserId(1L);
+
+        // then
+        verify(accountService, times(2)).getAccountsByUserId(1L);
+        assertEquals(1.0, meterRegistry.counter("account.query.coalesce", "result", "cache_hit").count());
+    }
+
+    @Test
+    @DisplayName("커밋 이후 캐시 무효화가 버전(ETag) 증가보다 먼저 실행")
+    void invalidateBeforeVersionBump() throws Exception {
+        // given
+        Order invalidate = AccountQueryCoalescer.class
+                .getMethod("invalidate", AccountChangedEvent.class).getAnnotation(Order.class);
+        Order versionBump = AccountVersionService.class
+                .getMethod("onAccountChanged", AccountChangedEvent.class).getAnnotation(Order.class);
+
+        // when
+        // then
+        assertTrue(invalidate.value() < versionBump.value());
+    }
+
+    private ObjectProvider<MeterRegistry> registry() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+
+    private static List<AccountDto> accounts() {
+        return List.of(
+                AccountDto.builder().userId(1L).accountNumber("1000000000").balance(1000L).build(),
+                AccountDto.builder().userId(1L).accountNumber("1000000001").balance(2000L).build());
+    }
+}
@@ -6,6 +6,7 @@ import com.example.account.dto.account.AccountDto;
 import com.example.account.exception.account.AccountException;
 import com.example.account.repository.account.AccountRepository;
 import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.service.account.AccountIndex;
 import com.example.account.service.account.AccountService;
 import com.example.account.type.account.AccountStatus;
 import com.example.account.type.ErrorCode;
@@ -16,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +40,12 @@ class AccountServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private AccountIndex accountIndex;
+
     @InjectMocks // @Mock 주입.
     private AccountService accountService;
 
@@ -50,9 +58,8 @@ class AccountServiceTest {
         user.setId(12L);
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(Account.builder()
-                        .accountNumber("1000000012").build()));
+        given(accountUserRepository.increaseActiveAccountCount(anyLong(), anyInt(), anyInt()))
+                .willReturn(1);
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
                         .accountUser(user)
@@ -81,8 +88,8 @@ class AccountServiceTest {
 
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.empty());
+        given(accountUserRepository.increaseActiveAccountCount(anyLong(), anyInt(), anyInt()))
+                .willReturn(1);
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
                         .accountUser(user)
@@ -129,8 +136,8 @@ class AccountServiceTest {
         // given
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(user));
-        given(accountRepository.countByAccountUser(any()))
-                .willReturn(10);
+        given(accountUserRepository.increaseActiveAccountCount(15L, 1, 10))
+                .willReturn(0);
 
         // when
         AccountException exception = assertThrows(AccountException.class,
@@ -165,6 +172,7 @@ class AccountServiceTest {
         assertEquals(12L, accountDto.getUserId());
         assertEquals("1000000012", captor.getValue().getAccountNumber());
         assertEquals(AccountStatus.UNREGISTERED, captor.getValue().getAccountStatus());
+        verify(accountUserRepository, times(1)).decreaseActiveAccountCount(12L);
     }
 
     @Test
@@ -0,0 +1,180 @@
+package com.example.account.service;
+
+import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.account.AccountUserImportCheckpoint;
+import com.example.account.dto.account.ImportAccountUser;
+import com.example.account.repository.account.AccountUserImportCheckpointRepository;
+import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.service.account.AccountUserImportService;
+import com.example.account.type.account.ImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountUserImportServiceTest {
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private AccountUserImportCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountUserImportService importService() {
+        return new AccountUserImportService(accountUserRepository, checkpointRepository, new ObjectMapper(),
+                transactionManager, 2, 16, 64);
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 헤더 건너뜀, chunk 단위 저장, 검증 실패 줄 보고")
+    void importCsv() throws Exception {
+        // given
+        List<List<String>> savedNames = new ArrayList<>();
+        given(accountUserRepository.saveAll(anyList()))
+                .willAnswer(invocation -> {
+                    List<AccountUser> users = invocation.getArgument(0);
+                    savedNames.add(users.stream().map(AccountUser::getName).toList());
+                    return users;
+                });
+        List<ImportAccountUser.Progress> progresses = new ArrayList<>();
+
+        // when
+        ImportAccountUser.Progress result = importService().importUsers(
+                input("name\nPororo\n\"Kim, Loopy\"\n\"\"\nCrong\n"), ImportFormat.CSV, 0, progresses::add);
+
+        // then
+        assertTrue(result.isDone());
+        assertEquals(5, result.getCommittedLine());
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(List.of(List.of("Pororo"), List.of("Kim, Loopy"), List.of("Crong")), savedNames);
+        assertEquals(3, progresses.size());
+        assertEquals(4, progresses.get(1).getCommittedLine());
+        assertEquals(4L, progresses.get(1).getRejections().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - startLine 이후부터 이어서")
+    void resumeNdjson() throws Exception {
+        // given
+        given(accountUserRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        List<ImportAccountUser.Progress> progresses = new ArrayList<>();
+
+        // when
+        ImportAccountUser.Progress result = importService().importUsers(
+                input("{\"name\":\"Pororo\"}\n{\"name\":\"Lupi\"}\n{\"name\":\"Eddie\"}\n{\"nick\":1}\n"),
+                ImportFormat.NDJSON, 2, progresses::add);
+
+        // then
+        assertTrue(result.isDone());
+        assertEquals(4, result.getCommittedLine());
+        assertEquals(1, result.getImported());
+        assertEquals("invalid format", progresses.get(0).getRejections().get(0).getReason());
+        verify(accountUserRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 마지막 커밋 줄에서 멈춤")
+    void stopOnFailure() throws Exception {
+        // given
+        given(accountUserRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        ImportAccountUser.Progress result = importService().importUsers(
+                input("Pororo\nLupi\nEddie\nCrong\nLoopy\n"), ImportFormat.CSV, 0, progress -> {
+                });
+
+        // then
+        assertFalse(result.isDone());
+        assertEquals(2, result.getCommittedLine());
+        assertEquals(2, result.getImported());
+        assertEquals("db down", result.getError());
+        verify(accountUserRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("진행 위치는 chunk 를 저장하는 트랜잭션 안에서 함께 저장, 실패한 chunk 는 기록하지 않음")
+    void saveCheckpointWithChunk() throws Exception {
+        // given
+        given(accountUserRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0))
+                .willThrow(new IllegalStateException("db down"));
+        given(checkpointRepository.findByImportKey("/data/users.csv")).willReturn(Optional.empty());
+        List<Long> savedLines = new ArrayList<>();
+        given(checkpointRepository.save(any()))
+                .willAnswer(invocation -> {
+                    AccountUserImportCheckpoint checkpoint = invocation.getArgument(0);
+                    savedLines.add(checkpoint.getCommittedLine());
+                    return checkpoint;
+                });
+
+        // when
+        ImportAccountUser.Progress result = importService().importUsers(
+                input("Pororo\nLupi\nEddie\nCrong\nLoopy\n"), ImportFormat.CSV, 0, "/data/users.csv",
+                progress -> {
+                });
+
+        // then
+        assertFalse(result.isDone());
+        assertEquals(List.of(2L), savedLines);
+        InOrder inOrder = inOrder(transactionManager, accountUserRepository, checkpointRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(accountUserRepository).saveAll(anyList());
+        inOrder.verify(checkpointRepository).save(any());
+        inOrder.verify(transactionManager).commit(any());
+        // 두 번째 chunk 는 롤백 (진행 위치도 함께)
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(accountUserRepository).saveAll(anyList());
+        inOrder.verify(transactionManager).rollback(any());
+        verify(checkpointRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("검증 실패만 있는 chunk 도 진행 위치는 저장")
+    void saveCheckpointWithoutUsers() throws Exception {
+        // given
+        given(checkpointRepository.findByImportKey("/data/users.csv")).willReturn(Optional.empty());
+
+        // when
+        ImportAccountUser.Progress result = importService().importUsers(
+                input("\"\"\n\"\"\n"), ImportFormat.CSV, 0, "/data/users.csv", progress -> {
+                });
+
+        // then
+        assertTrue(result.isDone());
+        ArgumentCaptor<AccountUserImportCheckpoint> captor = ArgumentCaptor.forClass(AccountUserImportCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(captor.capture());
+        assertEquals(2L, captor.getValue().getCommittedLine());
+        verify(accountUserRepository, never()).saveAll(anyList());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
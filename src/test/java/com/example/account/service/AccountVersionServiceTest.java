@@ -0,0 +1,73 @@
+package com.example.account.service;
+
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.service.account.AccountVersionService;
+import com.example.account.type.account.AccountStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class AccountVersionServiceTest {
+
+    @Test
+    @DisplayName("다른 노드의 변경 메시지를 받으면 버전을 올리고, 자기 노드 메시지는 건너뜀")
+    @SuppressWarnings("unchecked")
+    void bumpOnOtherNodeChange() {
+        // given
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RTopic topic = mock(RTopic.class);
+        given(redissonClient.getTopic(eq("account-version"), eq(StringCodec.INSTANCE))).willReturn(topic);
+        ObjectProvider<RedissonClient> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redissonClient);
+        AccountVersionService service = new AccountVersionService(provider, true);
+        service.subscribeTopic();
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        String before = service.userETag(1L);
+
+        // when
+        service.onAccountChanged(new AccountChangedEvent(1L, 10L, "1000000000", AccountStatus.IN_USE));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(topic).publish(published.capture());
+        String afterLocal = service.userETag(1L);
+        listener.getValue().onMessage("account-version", published.getValue());
+        String afterOwnMessage = service.userETag(1L);
+        listener.getValue().onMessage("account-version", "other-node,1,10");
+        String afterOtherNode = service.userETag(1L);
+
+        // then
+        assertNotEquals(before, afterLocal);
+        assertEquals(afterLocal, afterOwnMessage);
+        assertNotEquals(afterOwnMessage, afterOtherNode);
+        verify(topic, times(1)).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("topic 을 쓰지 않으면 Redis 에 접근하지 않고 로컬 버전만 올림")
+    @SuppressWarnings("unchecked")
+    void localOnly() {
+        // given
+        ObjectProvider<RedissonClient> provider = mock(ObjectProvider.class);
+        AccountVersionService service = new AccountVersionService(provider, false);
+        service.subscribeTopic();
+        String before = service.accountETag(10L);
+
+        // when
+        service.onAccountChanged(new AccountChangedEvent(1L, 10L, "1000000000", AccountStatus.IN_USE));
+
+        // then
+        assertNotEquals(before, service.accountETag(10L));
+        verifyNoInteractions(provider);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.account.service;
+
+import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.exception.account.AccountException;
+import com.example.account.service.transaction.AsyncUseBalanceService;
+import com.example.account.service.transaction.TransactionService;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.transaction.TransactionResultType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUseBalanceServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private LockService lockService;
+
+    @Test
+    @DisplayName("비동기 잔액 사용 성공 - 처리 후 대기 목록에서 제거")
+    void successUseBalanceAsync() throws Exception {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 10, 3, 10L);
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong(), anyString()))
+                .willReturn(TransactionDto.builder()
+                        .transactionId("transactionId")
+                        .transactionResultType(TransactionResultType.S)
+                        .build());
+
+        // when
+        TransactionDto transactionDto = service.submit("transactionId", 1L, "1000000000", 1000L)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(TransactionResultType.S, transactionDto.getTransactionResultType());
+        assertTrue(service.findPending("transactionId").isEmpty());
+        verify(lockService).lock("1000000000");
+        verify(lockService).unlock("1000000000");
+    }
+
+    @Test
+    @DisplayName("비동기 잔액 사용 실패 - 계좌 락을 놓기 전에 실패건 저장")
+    void failUseBalanceAsync() {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 10, 3, 10L);
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong(), anyString()))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        // when
+        CompletableFuture<TransactionDto> result = service.submit("transactionId", 1L, "1000000000", 1000L);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, ((AccountException) exception.getCause()).getErrorCode());
+        InOrder inOrder = inOrder(transactionService, lockService);
+        inOrder.verify(transactionService).saveFailedUseTransaction("1000000000", 1000L, "transactionId");
+        inOrder.verify(lockService).unlock("1000000000");
+    }
+
+    @Test
+    @DisplayName("실패건 저장 중 DB 오류 - 메모리에 실패 상태로 보관하고 결과는 원래 실패로 완료")
+    void keepFailedWhenSaveFails() {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 10, 3, 10L);
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong(), anyString()))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+        willThrow(new IllegalStateException("database unavailable"))
+                .given(transactionService).saveFailedUseTransaction(anyString(), anyLong(), anyString());
+
+        // when
+        CompletableFuture<TransactionDto> result = service.submit("transactionId", 1L, "1000000000", 1000L);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, ((AccountException) exception.getCause()).getErrorCode());
+        assertEquals(TransactionResultType.F,
+                service.findPending("transactionId").orElseThrow().getTransactionResultType());
+        verify(lockService).unlock("1000000000");
+    }
+
+    @Test
+    @DisplayName("계좌 락 경합 - 실패건으로 저장하지 않고 다시 큐에 넣어 처리")
+    void retryOnLockContention() throws Exception {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 10, 3, 10L);
+        willThrow(AccountException.of(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .willDoNothing()
+                .given(lockService).lock("1000000000");
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong(), anyString()))
+                .willReturn(TransactionDto.builder()
+                        .transactionId("transactionId")
+                        .transactionResultType(TransactionResultType.S)
+                        .build());
+
+        // when
+        TransactionDto transactionDto = service.submit("transactionId", 1L, "1000000000", 1000L)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(TransactionResultType.S, transactionDto.getTransactionResultType());
+        verify(lockService, times(2)).lock("1000000000");
+        verify(lockService, times(1)).unlock("1000000000");
+        verify(transactionService, never()).saveFailedUseTransaction(anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 락 재시도 소진 - DB 에 남기지 않고 메모리에 실패 상태로 보관")
+    void giveUpAfterLockRetries() {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 10, 2, 10L);
+        willThrow(AccountException.of(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .given(lockService).lock("1000000000");
+
+        // when
+        CompletableFuture<TransactionDto> result = service.submit("transactionId", 1L, "1000000000", 1000L);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, ((AccountException) exception.getCause()).getErrorCode());
+        assertEquals(TransactionResultType.F,
+                service.findPending("transactionId").orElseThrow().getTransactionResultType());
+        verify(lockService, times(3)).lock("1000000000");
+        verify(transactionService, never()).useBalance(anyLong(), anyString(), anyLong(), anyString());
+        verify(transactionService, never()).saveFailedUseTransaction(anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("처리 대기 큐가 가득 찬 경우 - 거절")
+    void rejectWhenQueueFull() throws Exception {
+        // given
+        AsyncUseBalanceService service = new AsyncUseBalanceService(transactionService, lockService,
+                new SimpleMeterRegistry(), 1, 1, 3, 10L);
+        CountDownLatch blocked = new CountDownLatch(1);
+        given(transactionService.useBalance(anyLong(), anyString(), anyLong(), anyString()))
+                .willAnswer(invocation -> {
+                    blocked.await(5, TimeUnit.SECONDS);
+                    return TransactionDto.builder().build();
+                });
+        service.submit("first", 1L, "1000000000", 1000L);
+        Thread.sleep(100L);
+        service.submit("second", 1L, "1000000000", 1000L);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> service.submit("third", 1L, "1000000000", 1000L));
+        blocked.countDown();
+
+        // then
+        assertEquals(ErrorCode.TRANSACTION_QUEUE_FULL, exception.getErrorCode());
+        assertTrue(service.findPending("third").isEmpty());
+        assertEquals(TransactionResultType.P,
+                service.findPending("second").orElseThrow().getTransactionResultType());
+    }
+}
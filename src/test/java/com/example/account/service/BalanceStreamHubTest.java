@@ -0,0 +1,159 @@
+package com.example.account.service;
+
+import com.example.account.event.BalanceChangedEvent;
+import com.example.account.service.account.BalanceStreamHub;
+import com.example.account.type.transaction.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BalanceStreamHubTest {
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final BalanceStreamHub hub = new BalanceStreamHub(redissonClient, new ObjectMapper(),
+            new SimpleMeterRegistry(), false, 60_000L, 1, 200L);
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("계좌별 구독자 등록")
+    void subscribe() {
+        // given
+        // when
+        hub.subscribe("1000000000");
+        hub.subscribe("1000000000");
+        hub.subscribe("1000000001");
+
+        // then
+        assertEquals(2, hub.subscriberCount("1000000000"));
+        assertEquals(1, hub.subscriberCount("1000000001"));
+        assertEquals(0, hub.subscriberCount("1000000002"));
+    }
+
+    @Test
+    @DisplayName("Redis topic 을 쓰지 않으면 로컬 구독자에게만 전달")
+    void publishLocally() {
+        // given
+        hub.subscribeTopic();
+        hub.subscribe("1000000000");
+
+        // when
+        hub.onBalanceChanged(new BalanceChangedEvent("1000000000", TransactionType.USE,
+                "transactionId", 1000L, 9000L, LocalDateTime.now()));
+
+        // then
+        verifyNoInteractions(redissonClient);
+        assertEquals(1, hub.subscriberCount("1000000000"));
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자는 제한 시간 이후 끊고, 전송 스레드는 다른 구독자에게 계속 전달")
+    void dropStalledSubscriber() throws Exception {
+        // given
+        // 전송 스레드 1개 : 느린 구독자가 스레드를 놓지 않으면 다른 구독자는 받지 못한다.
+        // 실제 MVC 핸들러로 초기화해서 막힌 전송이 emitter 쓰기 락을 잡은 채로 멈추게 한다.
+        // (감시 스레드가 그 락을 기다리며 전송 스레드를 깨우지 못하면 다른 구독자도 받지 못한다.)
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        initialize(hub.subscribe("1000000000"), new WritingConverter(() -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("interrupted");
+            }
+        }));
+        initialize(hub.subscribe("1000000001"), new WritingConverter(delivered::countDown));
+
+        // when
+        hub.onBalanceChanged(new BalanceChangedEvent("1000000000", TransactionType.USE,
+                "t1", 1000L, 9000L, LocalDateTime.now()));
+        hub.onBalanceChanged(new BalanceChangedEvent("1000000001", TransactionType.USE,
+                "t2", 1000L, 9000L, LocalDateTime.now()));
+
+        // then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(0, hub.subscriberCount("1000000000"));
+        assertEquals(1, hub.subscriberCount("1000000001"));
+    }
+
+    // 컨트롤러가 SseEmitter 를 반환했을 때처럼 비동기 요청을 시작하고 emitter 에 전송 핸들러를 연결한다.
+    private static void initialize(SseEmitter emitter, HttpMessageConverter<?> converter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        new ResponseBodyEmitterReturnValueHandler(List.of(converter)).handleReturnValue(emitter,
+                new MethodParameter(BalanceStreamHub.class.getMethod("subscribe", String.class), -1),
+                new ModelAndViewContainer(), webRequest);
+    }
+
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    // 이벤트 조각을 쓸 때마다 주어진 동작을 실행하는 변환기
+    private static class WritingConverter implements HttpMessageConverter<Object> {
+        private final Write write;
+
+        private WritingConverter(Write write) {
+            this.write = write;
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return true;
+        }
+
+        @Override
+        public List<MediaType> getSupportedMediaTypes() {
+            return List.of(MediaType.ALL);
+        }
+
+        @Override
+        public Object read(Class<?> clazz, HttpInputMessage inputMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(Object o, MediaType contentType, HttpOutputMessage outputMessage) throws IOException {
+            write.run();
+        }
+    }
+}
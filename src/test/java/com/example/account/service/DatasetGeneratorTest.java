@@ -0,0 +1,180 @@
+package com.example.account.service;
+
+import com.example.account.domain.converter.AccountNumberConverter;
+import com.example.account.domain.converter.TransactionIdConverter;
+import com.example.account.dto.dataset.GenerateDataset;
+import com.example.account.service.dataset.DatasetGenerator;
+import com.example.account.service.reconciliation.LedgerChainChecker;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetGeneratorTest {
+    private static final LocalDateTime END_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("사용자/계좌/거래 생성 - 계좌 수 한도, 사용 중 계좌 수, 잔액 스냅샷이 모두 맞는다")
+    void generate() {
+        // given
+        JdbcTemplate jdbcTemplate = database();
+        DatasetGenerator generator = generator(jdbcTemplate);
+
+        // when
+        GenerateDataset.Result result = generator.generate(spec(7L));
+
+        // then
+        assertEquals(200L, result.getUsers());
+        assertEquals(result.getAccounts(), count(jdbcTemplate, "select count(*) from account"));
+        assertEquals(result.getTransactions(), count(jdbcTemplate, "select count(*) from transaction"));
+        assertTrue(result.getTransactions() > 0 && result.getTransactions() <= 5000);
+        assertEquals(0L, count(jdbcTemplate, "select count(*) from account_user u where active_account_count > 10 " +
+                "or active_account_count <> (select count(*) from account a " +
+                "where a.account_user_id = u.id and a.account_status = 'IN_USE')"));
+        assertTrue(count(jdbcTemplate, "select count(*) from transaction where transaction_result_type = 'F'") > 0);
+        assertTrue(count(jdbcTemplate, "select count(*) from transaction where transaction_type = 'CANCEL'") > 0);
+        // 취소 가능 기간(1년) 안/밖의 거래가 모두 있다.
+        assertTrue(count(jdbcTemplate, "select count(*) from transaction " +
+                "where transacted_at < timestamp '2025-01-01 00:00:00'") > 0);
+        assertTrue(count(jdbcTemplate, "select count(*) from transaction " +
+                "where transacted_at >= timestamp '2025-01-01 00:00:00'") > 0);
+        assertEquals(0L, reconcile(jdbcTemplate).getDiscrepancyCount());
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 같은 데이터, 다른 seed 면 다른 데이터")
+    void reproducibleFromSeed() {
+        // given
+        JdbcTemplate first = database();
+        JdbcTemplate second = database();
+        JdbcTemplate third = database();
+
+        // when
+        generator(first).generate(spec(7L));
+        generator(second).generate(spec(7L));
+        generator(third).generate(spec(8L));
+
+        // then
+        assertEquals(snapshot(first), snapshot(second));
+        assertNotEquals(snapshot(first), snapshot(third));
+    }
+
+    @Test
+    @DisplayName("생성 이후 시퀀스는 생성한 id 뒤에서 시작")
+    void restartSequences() {
+        // given
+        JdbcTemplate jdbcTemplate = database();
+
+        // when
+        generator(jdbcTemplate).generate(spec(7L));
+
+        // then
+        assertTrue(count(jdbcTemplate, "select next value for account_seq")
+                > count(jdbcTemplate, "select max(id) from account"));
+        assertTrue(count(jdbcTemplate, "select next value for transaction_seq")
+                > count(jdbcTemplate, "select max(id) from transaction"));
+    }
+
+    @Test
+    @DisplayName("같은 DB 에 같은 seed 로 다시 생성 - 거래 아이디/계좌번호가 겹치지 않고 뒤에 추가")
+    void generateTwiceIntoSameDatabase() {
+        // given
+        JdbcTemplate jdbcTemplate = database();
+        DatasetGenerator generator = generator(jdbcTemplate);
+        GenerateDataset.Result first = generator.generate(spec(7L));
+
+        // when
+        GenerateDataset.Result second = generator.generate(spec(7L));
+
+        // then
+        assertEquals(first.getAccounts() + second.getAccounts(), count(jdbcTemplate, "select count(*) from account"));
+        assertEquals(first.getTransactions() + second.getTransactions(),
+                count(jdbcTemplate, "select count(*) from transaction"));
+        assertTrue(count(jdbcTemplate, "select max(account_number) from account") <= Integer.MAX_VALUE);
+        assertEquals(0L, reconcile(jdbcTemplate).getDiscrepancyCount());
+    }
+
+    private static GenerateDataset.Spec spec(long seed) {
+        return GenerateDataset.Spec.builder()
+                .seed(seed)
+                .users(200)
+                .maxAccountsPerUser(10)
+                .transactions(5000)
+                .zipfSkew(1.1)
+                .failureRatio(0.05)
+                .cancelRatio(0.05)
+                .unregisteredRatio(0.1)
+                .maxAmount(100_000L)
+                .days(730)
+                .endAt(END_AT)
+                .batchSize(100)
+                .build();
+    }
+
+    private static JdbcTemplate database() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:dataset-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("create sequence account_user_seq start with 1 increment by 50");
+        jdbcTemplate.execute("create sequence account_seq start with 1 increment by 50");
+        jdbcTemplate.execute("create sequence transaction_seq start with 1 increment by 50");
+        jdbcTemplate.execute("create table account_user (id bigint primary key, name varchar(255), " +
+                "active_account_count integer default 0 not null, created_at timestamp, updated_at timestamp)");
+        jdbcTemplate.execute("create table account (id bigint primary key, " +
+                "account_user_id bigint references account_user (id), account_number bigint unique, " +
+                "account_status varchar(20), balance bigint, registered_at timestamp, un_registered_at timestamp, " +
+                "created_at timestamp, updated_at timestamp)");
+        jdbcTemplate.execute("create table transaction (id bigint primary key, " +
+                "account_id bigint references account (id), transaction_type varchar(20), " +
+                "transaction_result_type varchar(20), amount bigint, " +
+                "balance_snapshot bigint, transaction_id binary(16) unique, transacted_at timestamp, " +
+                "created_at timestamp, updated_at timestamp)");
+        return jdbcTemplate;
+    }
+
+    private static DatasetGenerator generator(JdbcTemplate jdbcTemplate) {
+        return new DatasetGenerator(jdbcTemplate.getDataSource(),
+                new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    // id 를 빼고 비교 (계좌번호, 잔액, 거래 순서/금액/스냅샷)
+    private static List<Map<String, Object>> snapshot(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("select a.account_number, a.account_status, a.balance, " +
+                "t.transaction_type, t.transaction_result_type, t.amount, t.balance_snapshot, t.transacted_at " +
+                "from account a left join transaction t on t.account_id = a.id order by a.id, t.id");
+    }
+
+    private static LedgerChainChecker reconcile(JdbcTemplate jdbcTemplate) {
+        LedgerChainChecker checker = new LedgerChainChecker(10);
+        RowCallbackHandler rowHandler = rs -> {
+            byte[] transactionId = rs.getBytes("transaction_id");
+            String transactionType = rs.getString("transaction_type");
+            String transactionResultType = rs.getString("transaction_result_type");
+            checker.accept(rs.getLong("account_id"),
+                    AccountNumberConverter.toAccountNumber(rs.getLong("account_number")), rs.getLong("balance"),
+                    transactionId == null ? null : TransactionIdConverter.toTransactionId(transactionId),
+                    transactionType == null ? null : TransactionType.valueOf(transactionType),
+                    transactionResultType == null ? null : TransactionResultType.valueOf(transactionResultType),
+                    rs.getObject("amount", Long.class), rs.getObject("balance_snapshot", Long.class));
+        };
+        jdbcTemplate.query("select a.id as account_id, a.account_number, a.balance, t.transaction_id, " +
+                "t.transaction_type, t.transaction_result_type, t.amount, t.balance_snapshot " +
+                "from account a left join transaction t on t.account_id = a.id " +
+                "order by a.id, t.transacted_at, t.id", rowHandler);
+        checker.finish();
+        return checker;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.account.service;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.exception.account.AccountException;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.redis.HotBalanceRepository;
+import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.service.transaction.HotBalanceService;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionResultType;
+import com.example.account.type.transaction.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotBalanceServiceTest {
+
+    @Mock
+    private HotBalanceRepository hotBalanceRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private HotBalanceService hotBalanceService;
+
+    @Test
+    @DisplayName("Redis 잔액 사용 성공 - DB 조회 없음")
+    void successUseBalance() {
+        // given
+        given(hotBalanceRepository.debit(anyLong(), anyString(), anyLong(), anyString(), anyLong()))
+                .willReturn(9000L);
+
+        // when
+        TransactionDto transactionDto = hotBalanceService.useBalance(1L, "1000000000", 1000L);
+
+        // then
+        assertEquals(TransactionResultType.S, transactionDto.getTransactionResultType());
+        assertEquals(9000L, transactionDto.getBalanceSnapshot());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 에 없는 계좌 - DB 에서 적재 후 다시 차감")
+    void loadAndRetryUseBalance() {
+        // given
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(1L);
+        given(hotBalanceRepository.debit(anyLong(), anyString(), anyLong(), anyString(), anyLong()))
+                .willReturn(HotBalanceRepository.NOT_LOADED, 9000L);
+        given(accountRepository.findByAccountNumber("1000000000"))
+                .willReturn(Optional.of(Account.builder()
+                        .accountUser(user)
+                        .accountNumber("1000000000")
+                        .accountStatus(AccountStatus.IN_USE)
+                        .balance(10000L)
+                        .build()));
+
+        // when
+        TransactionDto transactionDto = hotBalanceService.useBalance(1L, "1000000000", 1000L);
+
+        // then
+        assertEquals(9000L, transactionDto.getBalanceSnapshot());
+        verify(hotBalanceRepository).loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 10000L);
+        verify(hotBalanceRepository, times(2))
+                .debit(anyLong(), anyString(), anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 사용 실패 - 잔액 부족")
+    void useBalance_exceedAmount() {
+        // given
+        given(hotBalanceRepository.debit(anyLong(), anyString(), anyLong(), anyString(), anyLong()))
+                .willReturn(HotBalanceRepository.AMOUNT_EXCEED_BALANCE);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> hotBalanceService.useBalance(1L, "1000000000", 1000L));
+
+        // then
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 취소 실패 - 적재 후에도 계좌가 없으면 성공으로 응답하지 않음")
+    void cancelBalance_notLoadedAfterLoad() {
+        // given
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(1L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .build();
+        given(transactionRepository.findByTransactionId("transactionId"))
+                .willReturn(Optional.of(Transaction.builder()
+                        .account(account)
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.S)
+                        .transactionId("transactionId")
+                        .transactedAt(LocalDateTime.now())
+                        .amount(1000L)
+                        .balanceSnapshot(9000L)
+                        .build()));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(hotBalanceRepository.credit(anyString(), anyLong(), anyString(), anyLong()))
+                .willReturn(HotBalanceRepository.NOT_LOADED);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> hotBalanceService.cancelBalance("transactionId", "1000000000", 1000L));
+
+        // then
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode());
+        verify(hotBalanceRepository, times(2)).credit(anyString(), anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("계좌 변경 이벤트 - 적재된 계좌는 내리지 않고 DB 의 계좌 상태만 Redis 에 전달")
+    void onAccountChanged() {
+        // given
+        AccountChangedEvent event = new AccountChangedEvent(1L, 1L, "1000000000", AccountStatus.UNREGISTERED);
+
+        // when
+        hotBalanceService.onAccountChanged(event);
+
+        // then
+        verify(hotBalanceRepository).updateStatus("1000000000", AccountStatus.UNREGISTERED);
+    }
+}
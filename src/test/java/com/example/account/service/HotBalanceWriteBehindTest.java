@@ -0,0 +1,159 @@
+package com.example.account.service;
+
+import com.example.account.domain.account.Account;
+import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.transaction.Transaction;
+import com.example.account.repository.account.AccountRepository;
+import com.example.account.repository.outbox.OutboxEventRepository;
+import com.example.account.repository.redis.HotBalanceRepository;
+import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.service.transaction.HotBalanceWriteBehind;
+import com.example.account.type.account.AccountStatus;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+// embedded Redis 저널 -> (mock) DB 반영 확인
+class HotBalanceWriteBehindTest {
+    private static final int REDIS_PORT = 16380;
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    private HotBalanceRepository hotBalanceRepository;
+    private AccountRepository accountRepository;
+    private TransactionRepository transactionRepository;
+    private HotBalanceWriteBehind writeBehind;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:" + REDIS_PORT);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        hotBalanceRepository = new HotBalanceRepository(redissonClient);
+        accountRepository = mock(AccountRepository.class);
+        transactionRepository = mock(TransactionRepository.class);
+        OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+        given(transactionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        // batch-size 2 : 저널이 길면 여러 트랜잭션으로 나눠 반영
+        writeBehind = new HotBalanceWriteBehind(hotBalanceRepository, accountRepository, transactionRepository,
+                outboxEventRepository, mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class), 2, 200L);
+    }
+
+    @Test
+    @DisplayName("저널 반영 - 성공 거래 금액만큼 DB 잔액에 더하고, 반영한 저널은 지운다")
+    void flushAppliesDelta() {
+        // given
+        Account account = account("1000000000", 10000L);
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 10000L);
+        hotBalanceRepository.debit(1L, "1000000000", 1000L, "t1", 100L);
+        hotBalanceRepository.debit(1L, "1000000000", 20000L, "t2", 200L);
+        hotBalanceRepository.credit("1000000000", 300L, "t3", 300L);
+
+        // when
+        writeBehind.flushAll();
+
+        // then
+        // 10000 - 1000 (t2 는 실패) + 300
+        assertEquals(9300L, account.getBalance());
+        verify(transactionRepository, times(2)).saveAll(anyList());
+        assertTrue(hotBalanceRepository.peekJournal("1000000000", 10).isEmpty());
+        assertTrue(hotBalanceRepository.findDirtyAccountNumbers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("저널 반영 - 이미 저장된 거래(커밋 후 저널 제거 전 중단)는 다시 저장하거나 더하지 않는다")
+    void flushSkipsPersisted() {
+        // given
+        // t1 은 이미 반영되어 DB 잔액이 9000
+        Account account = account("1000000000", 9000L);
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(transactionRepository.findByTransactionIdIn(anyList()))
+                .willReturn(List.of(Transaction.builder().transactionId("t1").build()));
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 10000L);
+        hotBalanceRepository.debit(1L, "1000000000", 1000L, "t1", 100L);
+        hotBalanceRepository.debit(1L, "1000000000", 2000L, "t2", 200L);
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        writeBehind.flushAll();
+
+        // then
+        assertEquals(7000L, account.getBalance());
+        verify(transactionRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("t2", captor.getValue().get(0).getTransactionId());
+        assertTrue(hotBalanceRepository.peekJournal("1000000000", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("기동 복구 - 남은 저널을 먼저 반영한 뒤 DB 값으로 Redis 잔액을 다시 만든다")
+    void recoverAndRebuild() {
+        // given
+        Account dirty = account("1000000000", 10000L);
+        Account clean = account("1000000001", 500L);
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(dirty));
+        given(accountRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<>(List.of(dirty, clean)));
+        hotBalanceRepository.loadIfAbsent("1000000000", 1L, AccountStatus.IN_USE, 10000L);
+        hotBalanceRepository.debit(1L, "1000000000", 1000L, "t1", 100L);
+        // Redis 에만 남은 오래된 값
+        hotBalanceRepository.loadIfAbsent("1000000001", 1L, AccountStatus.IN_USE, 1L);
+
+        // when
+        writeBehind.flushAll();
+        writeBehind.rebuildFromDatabase();
+
+        // then
+        assertEquals(9000L, dirty.getBalance());
+        assertEquals("9000", balance("1000000000"));
+        assertEquals("500", balance("1000000001"));
+    }
+
+    private static Account account(String accountNumber, Long balance) {
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(1L);
+        return Account.builder()
+                .accountUser(user)
+                .accountNumber(accountNumber)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(balance)
+                .build();
+    }
+
+    private static String balance(String accountNumber) {
+        return redissonClient.<String, String>getMap("hot:account:" + accountNumber, StringCodec.INSTANCE)
+                .get("balance");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.account.service;
+
+import com.example.account.dto.reconciliation.ReconciliationReport;
+import com.example.account.service.reconciliation.LedgerChainChecker;
+import com.example.account.type.reconciliation.DiscrepancyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.example.account.type.transaction.TransactionResultType.*;
+import static com.example.account.type.transaction.TransactionType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerChainCheckerTest {
+
+    @Test
+    @DisplayName("스냅샷 체인과 최종 잔액이 맞으면 불일치 없음")
+    void consistentLedger() {
+        // given
+        LedgerChainChecker checker = new LedgerChainChecker(10);
+
+        // when
+        checker.accept(1L, "1000000000", 9500L, "t1", USE, S, 1000L, 9000L);
+        checker.accept(1L, "1000000000", 9500L, "t2", USE, F, 20000L, 9000L);
+        checker.accept(1L, "1000000000", 9500L, "t3", TRANSFER_IN, S, 500L, 9500L);
+        checker.accept(2L, "1000000001", 100L, null, null, null, null, null);
+        checker.finish();
+
+        // then
+        assertEquals(2, checker.getAccounts());
+        assertEquals(3, checker.getTransactions());
+        assertEquals(0, checker.getDiscrepancyCount());
+    }
+
+    @Test
+    @DisplayName("실패한 취소(CANCEL/F)는 잔액을 바꾸지 않은 거래로 검증")
+    void failedCancel() {
+        // given
+        LedgerChainChecker checker = new LedgerChainChecker(10);
+
+        // when
+        checker.accept(1L, "1000000000", 10000L, "t1", USE, S, 1000L, 9000L);
+        // 부분 취소 요청 거절
+        checker.accept(1L, "1000000000", 10000L, "t2", CANCEL, F, 500L, 9000L);
+        checker.accept(1L, "1000000000", 10000L, "t3", CANCEL, S, 1000L, 10000L);
+        // 이미 취소된 거래를 다시 취소 요청
+        checker.accept(1L, "1000000000", 10000L, "t4", CANCEL, F, 1000L, 10000L);
+        checker.finish();
+
+        // then
+        assertEquals(4, checker.getTransactions());
+        assertEquals(0, checker.getDiscrepancyCount());
+    }
+
+    @Test
+    @DisplayName("끊어진 스냅샷, 실패 거래 스냅샷, 최종 잔액 불일치")
+    void brokenLedger() {
+        // given
+        LedgerChainChecker checker = new LedgerChainChecker(10);
+
+        // when
+        checker.accept(1L, "1000000000", 8000L, "t1", USE, S, 1000L, 9000L);
+        checker.accept(1L, "1000000000", 8000L, "t2", CANCEL, S, 1000L, 9500L);
+        checker.accept(1L, "1000000000", 8000L, "t3", USE, F, 100000L, 9400L);
+        checker.accept(1L, "1000000000", 8000L, "t4", USE, P, 100L, 0L);
+        checker.finish();
+
+        // then
+        assertEquals(3, checker.getDiscrepancyCount());
+        ReconciliationReport.Discrepancy chain = checker.getDiscrepancies().get(0);
+        assertEquals(DiscrepancyType.SNAPSHOT_CHAIN_BROKEN, chain.getType());
+        assertEquals("t2", chain.getTransactionId());
+        assertEquals(10000L, chain.getExpected());
+        assertEquals(9500L, chain.getActual());
+        assertEquals(DiscrepancyType.FAILED_SNAPSHOT_MISMATCH, checker.getDiscrepancies().get(1).getType());
+        ReconciliationReport.Discrepancy balance = checker.getDiscrepancies().get(2);
+        assertEquals(DiscrepancyType.BALANCE_MISMATCH, balance.getType());
+        assertEquals(9500L, balance.getExpected());
+        assertEquals(8000L, balance.getActual());
+    }
+
+    @Test
+    @DisplayName("리포트 건수 제한, 전체 건수는 합산")
+    void mergeWithLimit() {
+        // given
+        LedgerChainChecker left = new LedgerChainChecker(1);
+        LedgerChainChecker right = new LedgerChainChecker(1);
+        left.accept(1L, "1000000000", 0L, "t1", USE, S, 10L, 90L);
+        left.finish();
+        right.accept(2L, "1000000001", 0L, "t2", USE, S, 10L, 90L);
+        right.finish();
+
+        // when
+        LedgerChainChecker merged = left.merge(right);
+
+        // then
+        assertEquals(2, merged.getAccounts());
+        assertEquals(2, merged.getDiscrepancyCount());
+        assertEquals(1, merged.getDiscrepancies().size());
+    }
+}
@@ -24,6 +24,9 @@ class LockAopAspectTest {
     @Mock
     private ProceedingJoinPoint proceedingJoinPoint;
 
+    @Mock
+    private LockMetrics lockMetrics;
+
     @InjectMocks
     private LockAopAspect aopAspect;
 
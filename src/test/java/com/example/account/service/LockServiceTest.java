@@ -23,6 +23,9 @@ class LockServiceTest {
     @Mock
     private RLock rLock;
 
+    @Mock
+    private LockMetrics lockMetrics;
+
     @InjectMocks
     private LockService lockService;
 
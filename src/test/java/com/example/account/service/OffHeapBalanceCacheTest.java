@@ -0,0 +1,141 @@
+package com.example.account.service;
+
+import com.example.account.dto.account.AccountDto;
+import com.example.account.dto.account.AccountInfo;
+import com.example.account.event.AccountChangedEvent;
+import com.example.account.event.BalanceChangedEvent;
+import com.example.account.service.account.OffHeapBalanceCache;
+import com.example.account.type.account.AccountStatus;
+import com.example.account.type.transaction.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapBalanceCacheTest {
+    private DriverManagerDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 메모리 DB (연결이 닫혀도 유지)
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:balance-cache-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table account (id bigint primary key, account_number bigint, " +
+                "account_user_id bigint, account_status varchar(20), balance bigint)");
+        jdbcTemplate.update("insert into account values (1, 1000000001, 7, 'IN_USE', 1000)");
+        jdbcTemplate.update("insert into account values (2, 1000000002, 8, 'IN_USE', 2000)");
+        jdbcTemplate.update("insert into account values (3, 12, 7, 'UNREGISTERED', 0)");
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 잔액으로 사용자 계좌 목록 응답 (id 순서, 앞자리 0 유지)")
+    void loadAndFind() {
+        // given
+        OffHeapBalanceCache cache = cache(2);
+
+        // when
+        cache.load();
+        List<AccountInfo> accounts = cache.findAccountsByUserId(7L);
+
+        // then
+        assertEquals(3, cache.size());
+        assertEquals(2, accounts.size());
+        assertEquals("1000000001", accounts.get(0).getAccountNumber());
+        assertEquals(1000L, accounts.get(0).getBalance());
+        assertEquals("0000000012", accounts.get(1).getAccountNumber());
+        assertEquals(0L, accounts.get(1).getBalance());
+        assertNull(cache.findAccountsByUserId(9L));
+    }
+
+    @Test
+    @DisplayName("잔액 변경 이벤트 반영, 거래 시각이 더 이전인 변경은 무시")
+    void applyNewerBalanceOnly() {
+        // given
+        OffHeapBalanceCache cache = cache(16);
+        cache.load();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        cache.onBalanceChanged(balanceChanged("1000000002", 1500L, now));
+        cache.onBalanceChanged(balanceChanged("1000000002", 1800L, now.minusNanos(1_000)));
+
+        // then
+        assertEquals(1500L, cache.findAccountsByUserId(8L).get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("기동 후 생성된 계좌는 DB 조회 결과로 채운 뒤부터 캐시에서 응답")
+    void fillNewAccount() {
+        // given
+        OffHeapBalanceCache cache = cache(16);
+        cache.load();
+
+        // when
+        cache.onAccountChanged(new AccountChangedEvent(8L, 4L, "1000000003", AccountStatus.IN_USE));
+        List<AccountInfo> beforeFill = cache.findAccountsByUserId(8L);
+        cache.fill(List.of(
+                AccountDto.builder().accountNumber("1000000002").balance(9999L).build(),
+                AccountDto.builder().accountNumber("1000000003").balance(300L).build()));
+        List<AccountInfo> afterFill = cache.findAccountsByUserId(8L);
+
+        // then
+        assertNull(beforeFill);
+        assertEquals(2, afterFill.size());
+        // 이미 알고 있는 잔액은 DB 조회 결과로 덮어쓰지 않는다.
+        assertEquals(2000L, afterFill.get(0).getBalance());
+        assertEquals("1000000003", afterFill.get(1).getAccountNumber());
+        assertEquals(300L, afterFill.get(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("적재 중 슬롯이 생기기 전에 바뀐 잔액 - 적재한 잔액 대신 DB 조회 결과로 채운다")
+    void invalidateBalanceChangedWhileLoading() {
+        // given
+        OffHeapBalanceCache cache = cache(16);
+        // 행을 읽은 뒤 슬롯을 추가하기 전에 커밋된 변경 (적재 결과는 이전 잔액 2000)
+        cache.onBalanceChanged(balanceChanged("1000000002", 1500L, LocalDateTime.now()));
+
+        // when
+        cache.load();
+        List<AccountInfo> beforeFill = cache.findAccountsByUserId(8L);
+        cache.fill(List.of(AccountDto.builder().accountNumber("1000000002").balance(1500L).build()));
+        List<AccountInfo> afterFill = cache.findAccountsByUserId(8L);
+
+        // then
+        assertNull(beforeFill);
+        assertEquals(1500L, afterFill.get(0).getBalance());
+        // 적재 중 변경이 없던 계좌는 그대로
+        assertEquals(1000L, cache.findAccountsByUserId(7L).get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("비활성화 (또는 Redis 잔액 모드) 이면 항상 DB 에서 응답")
+    void disabled() {
+        // given
+        OffHeapBalanceCache cache = new OffHeapBalanceCache(dataSource, true, true, 16, 16, 100);
+
+        // when
+        cache.load();
+
+        // then
+        assertEquals(0, cache.size());
+        assertNull(cache.findAccountsByUserId(7L));
+    }
+
+    private OffHeapBalanceCache cache(int pageSlots) {
+        return new OffHeapBalanceCache(dataSource, true, false, pageSlots, 16, 100);
+    }
+
+    private static BalanceChangedEvent balanceChanged(String accountNumber, Long balance,
+                                                      LocalDateTime transactedAt) {
+        return new BalanceChangedEvent(accountNumber, TransactionType.USE, "transactionId", 100L, balance,
+                transactedAt);
+    }
+}
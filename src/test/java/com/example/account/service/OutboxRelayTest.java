@@ -0,0 +1,76 @@
+package com.example.account.service;
+
+import com.example.account.domain.outbox.OutboxEvent;
+import com.example.account.repository.outbox.OutboxEventRepository;
+import com.example.account.service.outbox.OutboxRelay;
+import com.example.account.service.outbox.OutboxSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Test
+    @DisplayName("키셋 커서로 배치 발행 후 배치 삭제")
+    void relayInBatches() throws Exception {
+        // given
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, outboxSink, new SimpleMeterRegistry(), 2, 1000);
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .willReturn(List.of(outboxEvent(1L), outboxEvent(2L)));
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any()))
+                .willReturn(List.of(outboxEvent(3L)));
+
+        // when
+        int published = relay.relay();
+
+        // then
+        assertEquals(3, published);
+        verify(outboxSink, times(2)).publish(anyList());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 삭제하지 않음")
+    void keepEventsWhenPublishFails() throws Exception {
+        // given
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, outboxSink, new SimpleMeterRegistry(), 2, 1000);
+        given(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .willReturn(List.of(outboxEvent(1L)));
+        willThrow(new IllegalStateException("sink down")).given(outboxSink).publish(anyList());
+
+        // when
+        // then
+        assertThrows(IllegalStateException.class, relay::relay);
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static OutboxEvent outboxEvent(Long id) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .accountNumber("1000000000")
+                .transactionId("transactionId" + id)
+                .amount(1000L)
+                .build();
+        outboxEvent.setId(id);
+        return outboxEvent;
+    }
+}
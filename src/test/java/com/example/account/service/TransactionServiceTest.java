@@ -2,12 +2,16 @@ package com.example.account.service;
 
 import com.example.account.domain.account.Account;
 import com.example.account.domain.account.AccountUser;
+import com.example.account.domain.outbox.OutboxEvent;
 import com.example.account.domain.transaction.Transaction;
 import com.example.account.dto.transaction.TransactionDto;
+import com.example.account.dto.transaction.TransferDto;
 import com.example.account.exception.account.AccountException;
 import com.example.account.repository.account.AccountRepository;
 import com.example.account.repository.account.AccountUserRepository;
+import com.example.account.repository.outbox.OutboxEventRepository;
 import com.example.account.repository.transaction.TransactionRepository;
+import com.example.account.service.account.AccountIndex;
 import com.example.account.service.transaction.TransactionService;
 import com.example.account.type.account.AccountStatus;
 import com.example.account.type.ErrorCode;
@@ -20,6 +24,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -42,6 +47,15 @@ class TransactionServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private AccountIndex accountIndex;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -301,6 +315,41 @@ class TransactionServiceTest {
         assertEquals(TransactionResultType.F, captor.getValue().getTransactionResultType());
     }
 
+    @Test
+    @DisplayName("실패한 취소 저장 - 결과 F 로 저장하고 아웃박스에도 F 로 기록")
+    void saveFailedCancelTransaction() {
+        // given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(1L);
+
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012")
+                .build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+        ArgumentCaptor<OutboxEvent> outboxCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+        // when
+        transactionService.saveFailedCancelTransaction("1000000012", 200L);
+
+        // then
+        verify(transactionRepository, times(1)).save(captor.capture());
+        verify(outboxEventRepository, times(1)).save(outboxCaptor.capture());
+        assertEquals(TransactionType.CANCEL, captor.getValue().getTransactionType());
+        assertEquals(TransactionResultType.F, captor.getValue().getTransactionResultType());
+        assertEquals(10000L, captor.getValue().getBalanceSnapshot());
+        assertEquals(TransactionResultType.F, outboxCaptor.getValue().getTransactionResultType());
+    }
+
     @Test
     @DisplayName("거래 취소 성공")
     void successCancelBalance() {
@@ -533,6 +582,74 @@ class TransactionServiceTest {
         assertEquals(ErrorCode.TOO_OLD_ORDER_TO_CANCEL, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("이체 출금 거래는 취소 불가 - 잔액 사용 취소 실패")
+    void cancelTransaction_TransferOut() {
+        // when
+        AccountException exception = cancelNotUseTransaction(TransactionType.TRANSFER_OUT,
+                TransactionResultType.S);
+
+        // then
+        assertEquals(ErrorCode.CANCEL_NOT_ALLOWED_TRANSACTION, exception.getErrorCode());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("이체 입금 거래는 취소 불가 - 잔액 사용 취소 실패")
+    void cancelTransaction_TransferIn() {
+        // when
+        AccountException exception = cancelNotUseTransaction(TransactionType.TRANSFER_IN,
+                TransactionResultType.S);
+
+        // then
+        assertEquals(ErrorCode.CANCEL_NOT_ALLOWED_TRANSACTION, exception.getErrorCode());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("실패한 사용 거래는 취소 불가 - 잔액 사용 취소 실패")
+    void cancelTransaction_FailedUse() {
+        // when
+        AccountException exception = cancelNotUseTransaction(TransactionType.USE, TransactionResultType.F);
+
+        // then
+        assertEquals(ErrorCode.CANCEL_NOT_ALLOWED_TRANSACTION, exception.getErrorCode());
+    }
+
+    private AccountException cancelNotUseTransaction(TransactionType transactionType,
+                                                     TransactionResultType transactionResultType) {
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(1L);
+
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012")
+                .build();
+        account.setId(1L);
+
+        Transaction transaction = Transaction.builder()
+                .account(account)
+                .transactionType(transactionType)
+                .transactionResultType(transactionResultType)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now())
+                .amount(200L)
+                .balanceSnapshot(9800L)
+                .build();
+
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.of(transaction));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        return assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance("transactionId", "1000000012", 200L));
+    }
+
     @Test
     @DisplayName("거래 조회 성공")
     void successQueryTransaction() {
@@ -587,4 +704,105 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이체 성공 - 출금/입금 거래 한 쌍 저장")
+    void successTransfer() {
+        // given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(1L);
+        Account from = Account.builder()
+                .accountUser(user)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012")
+                .build();
+        Account to = Account.builder()
+                .accountUser(user)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(0L)
+                .accountNumber("1000000013")
+                .build();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000012"))
+                .willReturn(Optional.of(from));
+        given(accountRepository.findByAccountNumber("1000000013"))
+                .willReturn(Optional.of(to));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when
+        TransferDto transferDto = transactionService.transfer(1L, "1000000012", "1000000013", 1000L);
+
+        // then
+        verify(transactionRepository, times(2)).save(captor.capture());
+        assertEquals(TransactionType.TRANSFER_OUT, captor.getAllValues().get(0).getTransactionType());
+        assertEquals(TransactionType.TRANSFER_IN, captor.getAllValues().get(1).getTransactionType());
+        assertEquals(9000L, transferDto.getWithdrawal().getBalanceSnapshot());
+        assertEquals(1000L, transferDto.getDeposit().getBalanceSnapshot());
+        verify(outboxEventRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("이체 실패 - 같은 계좌로 이체")
+    void transfer_sameAccount() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.transfer(1L, "1000000012", "1000000012", 1000L));
+
+        // then
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("계좌 인덱스로 소유자 확인 시 사용자 조회 생략")
+    void useBalance_ownerFromIndex() {
+        // given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi")
+                .build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012")
+                .build();
+        given(accountIndex.find("1000000012"))
+                .willReturn(AccountIndex.pack(1L, 12L, AccountStatus.IN_USE));
+        given(accountRepository.findByAccountNumber("1000000012"))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TransactionDto transactionDto = transactionService.useBalance(12L, "1000000012", 1000L);
+
+        // then
+        assertEquals(9000L, transactionDto.getBalanceSnapshot());
+        verify(accountUserRepository, times(0)).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("계좌 인덱스에서 해지된 계좌는 조회 없이 실패")
+    void useBalance_unregisteredFromIndex() {
+        // given
+        given(accountIndex.find("1000000012"))
+                .willReturn(AccountIndex.pack(1L, 12L, AccountStatus.UNREGISTERED));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(12L, "1000000012", 1000L));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+        verify(accountUserRepository, times(0)).findById(anyLong());
+        verify(accountRepository, times(0)).findByAccountNumber(anyString());
+    }
+}
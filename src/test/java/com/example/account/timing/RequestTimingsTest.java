@@ -0,0 +1,68 @@
+package com.example.account.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    @Test
+    @DisplayName("Server-Timing 헤더 생성")
+    void toHeaderValue() {
+        // given
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings.addLockWait(1_230_000L);
+        RequestTimings.addLockHold(15_000_000L);
+        RequestTimings.addDb(2_000_000L);
+        RequestTimings.addDb(1_050_000L);
+        RequestTimings.addStatement();
+        RequestTimings.addStatement();
+        RequestTimings.addSerialization(80_000L);
+
+        // when
+        timings.stop();
+        String header = timings.toHeaderValue();
+
+        // then
+        assertEquals("lock-wait;dur=1.23, lock-hold;dur=15.00, db;dur=3.05, stmt;desc=\"2\", ser;dur=0.08",
+                header);
+    }
+
+    @Test
+    @DisplayName("측정 중이 아니면 누적하지 않음")
+    void ignoreWhenInactive() {
+        // given
+        RequestTimings timings = RequestTimings.start();
+        timings.stop();
+
+        // when
+        RequestTimings.addLockWait(1_000_000L);
+        RequestTimings.addStatement();
+
+        // then
+        assertEquals("lock-wait;dur=0.00, lock-hold;dur=0.00, db;dur=0.00, stmt;desc=\"0\", ser;dur=0.00",
+                timings.toHeaderValue());
+    }
+
+    @Test
+    @DisplayName("측정 중인 스레드에서만 현재 버퍼를 반환")
+    void current() throws InterruptedException {
+        // given
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings[] otherThread = new RequestTimings[1];
+        Thread thread = new Thread(() -> otherThread[0] = RequestTimings.current());
+
+        // when
+        RequestTimings whileActive = RequestTimings.current();
+        thread.start();
+        thread.join();
+        timings.stop();
+        RequestTimings afterStop = RequestTimings.current();
+
+        // then
+        assertSame(timings, whileActive);
+        assertNull(otherThread[0]);
+        assertNull(afterStop);
+    }
+}
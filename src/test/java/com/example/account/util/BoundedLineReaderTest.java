@@ -0,0 +1,48 @@
+package com.example.account.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLineReaderTest {
+
+    @Test
+    @DisplayName("버퍼보다 긴 줄과 CRLF, 마지막 줄바꿈 없는 줄")
+    void readLines() throws IOException {
+        // given
+        BoundedLineReader reader = new BoundedLineReader(
+                new StringReader("Pororo\r\nLupi-and-Eddie\n\nCrong"), 4, 100);
+
+        // when
+        // then
+        assertEquals("Pororo", reader.readLine());
+        assertEquals("Lupi-and-Eddie", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("Crong", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 잘라서 반환하고 다음 줄은 정상")
+    void truncateLongLine() throws IOException {
+        // given
+        BoundedLineReader reader = new BoundedLineReader(
+                new StringReader("0123456789\nok\n"), 4, 5);
+
+        // when
+        String first = reader.readLine();
+        boolean firstTruncated = reader.isTruncated();
+        String second = reader.readLine();
+
+        // then
+        assertEquals("01234", first);
+        assertTrue(firstTruncated);
+        assertEquals("ok", second);
+        assertFalse(reader.isTruncated());
+        assertNull(reader.readLine());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.account.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLongLongMapTest {
+
+    @Test
+    @DisplayName("확장 이후에도 저장한 값을 모두 조회")
+    void putAndGetAfterResize() {
+        // given
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+
+        // when
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, key * 10);
+        }
+
+        // then
+        assertEquals(1000, map.size());
+        for (long key = 1; key <= 1000; key++) {
+            assertEquals(key * 10, map.get(key, -1L));
+        }
+        assertEquals(-1L, map.get(1001L, -1L));
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 같은 탐사 체인의 다른 키는 조회 가능")
+    void removeKeepsProbeChain() {
+        // given
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        for (long key = 1; key <= 12; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        for (long key = 1; key <= 12; key += 2) {
+            map.remove(key);
+        }
+
+        // then
+        assertEquals(6, map.size());
+        for (long key = 1; key <= 12; key++) {
+            assertEquals(key % 2 == 0 ? key : 0L, map.get(key, 0L));
+        }
+    }
+
+    @Test
+    @DisplayName("동시 증가 - 누락 없이 합산")
+    void concurrentIncrement() throws InterruptedException {
+        // given
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (long i = 0; i < 10_000; i++) {
+                    map.incrementAndGet(i % 100 + 1);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        for (long key = 1; key <= 100; key++) {
+            assertEquals(800L, map.get(key, 0L));
+        }
+    }
+
+    @Test
+    @DisplayName("키 0 은 사용할 수 없음")
+    void zeroKeyRejected() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.account.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("버스트만큼 허용 후 거절, 시간이 지나면 다시 허용")
+    void burstAndRefill() {
+        // given
+        StripedTokenBucket buckets = new StripedTokenBucket(10, 5, 60_000, 4);
+        long now = System.nanoTime();
+
+        // when
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (buckets.tryAcquire(1L, now)) {
+                allowed++;
+            }
+        }
+
+        // then
+        assertEquals(5, allowed);
+        assertFalse(buckets.tryAcquire(1L, now + SECOND / 20));
+        assertTrue(buckets.tryAcquire(1L, now + SECOND / 10));
+    }
+
+    @Test
+    @DisplayName("키별로 한도가 독립적")
+    void independentKeys() {
+        // given
+        StripedTokenBucket buckets = new StripedTokenBucket(1, 1, 60_000, 4);
+        long now = System.nanoTime();
+
+        // when
+        // then
+        assertTrue(buckets.tryAcquire(1000000000L, now));
+        assertFalse(buckets.tryAcquire(1000000000L, now));
+        assertTrue(buckets.tryAcquire(1000000001L, now));
+    }
+
+    @Test
+    @DisplayName("idle 버킷 정리")
+    void evictIdleBuckets() {
+        // given
+        StripedTokenBucket buckets = new StripedTokenBucket(100, 10, 1_000, 1);
+        long now = System.nanoTime();
+        for (long key = 1; key <= 100; key++) {
+            buckets.tryAcquire(key, now);
+        }
+
+        // when
+        buckets.tryAcquire(1000L, now + 2 * SECOND);
+
+        // then
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    @DisplayName("확인만 하면 토큰을 소비하지 않고, 되돌린 토큰은 다시 얻을 수 있다")
+    void canAcquireAndRelease() {
+        // given
+        StripedTokenBucket buckets = new StripedTokenBucket(1, 1, 60_000, 4);
+        long now = System.nanoTime();
+
+        // when
+        boolean before = buckets.canAcquire(1L, now);
+        boolean acquired = buckets.tryAcquire(1L, now);
+        boolean exhausted = buckets.canAcquire(1L, now);
+        buckets.release(1L);
+
+        // then
+        assertTrue(before);
+        assertTrue(acquired);
+        assertFalse(exhausted);
+        assertTrue(buckets.canAcquire(1L, now));
+        assertTrue(buckets.tryAcquire(1L, now));
+        // 확인만 한 키는 버킷을 만들지 않는다.
+        assertTrue(buckets.canAcquire(2L, now));
+        assertEquals(1, buckets.size());
+    }
+}